@@ -0,0 +1,90 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.common.GzipBodies;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Writes {@link VersionedList} bodies from bytes encoded once per roster version. Hot reads of the roster and the
+ * lists derived from it become a copy of cached bytes; Jackson and gzip only run again after a write bumps the
+ * version. Bodies large enough to be worth compressing are also kept gzipped and sent as such to clients that
+ * accept it.
+ */
+public class PreEncodedRosterConverter extends AbstractHttpMessageConverter<VersionedList<?>> {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, EncodedBody> bodies = new ConcurrentHashMap<>();
+
+    public PreEncodedRosterConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return VersionedList.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected VersionedList<?> readInternal(Class<? extends VersionedList<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pre-encoded roster bodies are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(VersionedList<?> list, HttpOutputMessage outputMessage) throws IOException {
+        EncodedBody body = encoded(list);
+        byte[] bytes = body.identity();
+        HttpHeaders headers = outputMessage.getHeaders();
+        if (body.gzip() != null) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip()) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                bytes = body.gzip();
+            }
+        }
+        headers.setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    EncodedBody encoded(VersionedList<?> list) {
+        return bodies.compute(list.key(), (key, cached) ->
+                cached != null && cached.version() == list.version() ? cached : encode(list));
+    }
+
+    private EncodedBody encode(VersionedList<?> list) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(list);
+            return new EncodedBody(list.version(), identity, GzipBodies.compressIfWorthIt(identity));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean acceptsGzip() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return GzipBodies.accepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
+        return false;
+    }
+
+    record EncodedBody(long version, byte[] identity, byte[] gzip) {}
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable last-known-good view of the upstream roster. The version increases on every refresh or local patch,
+ * while {@code fetchedAt} only moves when the full roster is re-read from the upstream. The employees list carries
+ * the version so responses built from it can be served from pre-encoded bytes.
+ */
+public record Roster(List<Employee> employees, long version, Instant fetchedAt) {
+
+    public Roster {
+        employees = new VersionedList<>("roster", version, employees);
+    }
+
+    public Duration age(Clock clock) {
+        return Duration.between(fetchedAt, clock.instant());
+    }
+
+    public Optional<Employee> find(String id) {
+        return employees.stream().filter(e -> Objects.equals(e.getId(), id)).findFirst();
+    }
+
+    Roster with(Employee employee) {
+        List<Employee> patched = new ArrayList<>(employees.size() + 1);
+        employees.stream().filter(e -> !Objects.equals(e.getId(), employee.getId())).forEach(patched::add);
+        patched.add(employee);
+        return new Roster(patched, version + 1, fetchedAt);
+    }
+
+    Roster without(String id) {
+        return new Roster(
+                employees.stream().filter(e -> !Objects.equals(e.getId(), id)).toList(), version + 1, fetchedAt);
+    }
+}
@@ -0,0 +1,290 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Keeps the last-known-good roster and decides, per read, whether it can be served as is:
+ * <ul>
+ *   <li>within the ttl it is served as fresh;</li>
+ *   <li>within stale-while-revalidate it is served immediately and refreshed once in the background;</li>
+ *   <li>otherwise it is refreshed on the caller's thread, falling back to the stale copy within stale-if-error
+ *   when the upstream is rate limiting or unreachable.</li>
+ * </ul>
+ * Concurrent callers that all need a foreground refresh, including the very first read, share a single upstream
+ * fetch. Reads start a background refresh at most once per revalidate-interval.
+ */
+@Slf4j
+@Component
+public class RosterCache {
+
+    private final EmployeeClient client;
+    private final RosterCacheProperties properties;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+
+    private final AtomicReference<Roster> roster = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicReference<CompletableFuture<Roster>> inFlight = new AtomicReference<>();
+    private final AtomicBoolean fromSnapshot = new AtomicBoolean();
+    private final List<RosterListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Instant nextRevalidation = Instant.MIN;
+
+    /*
+     * Local writes made while a full fetch is running, re-applied on top of its result since the fetch may have read
+     * the upstream before they landed there. Only kept while a fetch is in flight; guards fetchesInFlight too.
+     */
+    private final List<UnaryOperator<Roster>> writesDuringFetch = new ArrayList<>();
+    private int fetchesInFlight;
+
+    @Autowired
+    public RosterCache(EmployeeClient client, RosterCacheProperties properties) {
+        this(client, properties, Clock.systemUTC(), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-revalidate");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    RosterCache(EmployeeClient client, RosterCacheProperties properties, Clock clock, Executor refreshExecutor) {
+        this.client = client;
+        this.properties = properties;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public void addListener(RosterListener listener) {
+        listeners.add(listener);
+    }
+
+    public Optional<Roster> current() {
+        return Optional.ofNullable(roster.get());
+    }
+
+    public List<Employee> getEmployees() {
+        return get().employees();
+    }
+
+    public Roster get() {
+        Roster current = roster.get();
+        if (current == null) {
+            return sharedRefresh();
+        }
+        if (fromSnapshot.get()) {
+            revalidateIfDue();
+            RosterStaleness.mark(current.age(clock), false);
+            return current;
+        }
+
+        Duration age = current.age(clock);
+        if (age.compareTo(properties.getTtl()) <= 0) {
+            return current;
+        }
+        if (age.compareTo(properties.getTtl().plus(properties.getStaleWhileRevalidate())) <= 0) {
+            revalidateIfDue();
+            RosterStaleness.mark(age, false);
+            return current;
+        }
+
+        try {
+            return sharedRefresh();
+        } catch (RestClientException e) {
+            return serveIfError(current, e);
+        }
+    }
+
+    /**
+     * Whether a failure means the upstream is rate limiting or unreachable, the only failures a stale roster is
+     * served for. Other client errors are answers and are passed on.
+     */
+    public static boolean isUpstreamFailure(RestClientException e) {
+        return e instanceof HttpClientErrorException.TooManyRequests
+                || e instanceof HttpServerErrorException
+                || e instanceof ResourceAccessException
+                || e instanceof UpstreamUnavailableException;
+    }
+
+    /**
+     * Looks up an employee in the last-known-good roster after a by-id read failed with an
+     * {@linkplain #isUpstreamFailure upstream failure}, within the same stale-if-error window that applies to
+     * full-roster reads.
+     */
+    public Optional<Employee> findIfError(String id) {
+        Roster current = roster.get();
+        if (current == null || !(fromSnapshot.get() || withinStaleIfError(current))) {
+            return Optional.empty();
+        }
+        Optional<Employee> employee = current.find(id);
+        employee.ifPresent(ignored -> RosterStaleness.mark(current.age(clock), true));
+        return employee;
+    }
+
+    public void put(Employee employee) {
+        Roster updated = write(current -> current.with(employee));
+        if (updated != null) {
+            listeners.forEach(listener -> listener.onPut(updated, employee));
+        }
+    }
+
+    public void evict(String id) {
+        Roster updated = write(current -> current.without(id));
+        if (updated != null) {
+            listeners.forEach(listener -> listener.onEvict(updated, id));
+        }
+    }
+
+    /**
+     * Refreshes the roster in the background when this copy is known to have missed changes, whatever the
+     * revalidate-interval.
+     */
+    public void revalidate() {
+        if (roster.get() != null) {
+            revalidateInBackground();
+        }
+    }
+
+    /**
+     * Seeds an empty cache with a roster loaded from disk. Until the first successful refresh it is served as is,
+     * marked stale, whatever its age, while every read triggers a background revalidation.
+     */
+    public boolean restore(Roster snapshot) {
+        if (!roster.compareAndSet(null, snapshot)) {
+            return false;
+        }
+        fromSnapshot.set(true);
+        listeners.forEach(listener -> listener.onRefresh(snapshot));
+        return true;
+    }
+
+    public Roster refresh() {
+        int seen;
+        synchronized (writesDuringFetch) {
+            fetchesInFlight++;
+            seen = writesDuringFetch.size();
+        }
+        Roster refreshed;
+        try {
+            List<Employee> employees = client.getAllEmployees();
+            synchronized (writesDuringFetch) {
+                Roster current = roster.get();
+                Roster fetched = new Roster(employees, current == null ? 1 : current.version() + 1, clock.instant());
+                for (UnaryOperator<Roster> write : writesDuringFetch.subList(seen, writesDuringFetch.size())) {
+                    fetched = write.apply(fetched);
+                }
+                roster.set(fetched);
+                refreshed = fetched;
+            }
+        } finally {
+            synchronized (writesDuringFetch) {
+                if (--fetchesInFlight == 0) {
+                    writesDuringFetch.clear();
+                }
+            }
+        }
+        fromSnapshot.set(false);
+        listeners.forEach(listener -> listener.onRefresh(refreshed));
+        return refreshed;
+    }
+
+    private Roster write(UnaryOperator<Roster> write) {
+        synchronized (writesDuringFetch) {
+            if (fetchesInFlight > 0) {
+                writesDuringFetch.add(write);
+            }
+            return roster.updateAndGet(current -> current == null ? null : write.apply(current));
+        }
+    }
+
+    /*
+     * The first caller fetches on its own thread; callers arriving while that fetch runs wait for its outcome,
+     * success or failure, instead of starting their own.
+     */
+    private Roster sharedRefresh() {
+        CompletableFuture<Roster> mine = new CompletableFuture<>();
+        CompletableFuture<Roster> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            Roster refreshed = refresh();
+            mine.complete(refreshed);
+            return refreshed;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    /*
+     * A restored or stale roster is served on every read; without the interval each of them would start another
+     * fetch against an upstream that may be failing or rate limiting us.
+     */
+    private void revalidateIfDue() {
+        Instant now = clock.instant();
+        if (now.isBefore(nextRevalidation)) {
+            return;
+        }
+        nextRevalidation = now.plus(properties.getRevalidateInterval());
+        revalidateInBackground();
+    }
+
+    private void revalidateInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                refresh();
+            } catch (RestClientException e) {
+                log.warn("Background roster revalidation failed: {}", e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private Roster serveIfError(Roster current, RestClientException e) {
+        if (!isUpstreamFailure(e) || !withinStaleIfError(current)) {
+            throw e;
+        }
+        log.warn("Serving roster version {} stale after upstream failure: {}", current.version(), e.getMessage());
+        RosterStaleness.mark(current.age(clock), true);
+        return current;
+    }
+
+    private boolean withinStaleIfError(Roster current) {
+        return current.age(clock).compareTo(properties.getTtl().plus(properties.getStaleIfError())) <= 0;
+    }
+}
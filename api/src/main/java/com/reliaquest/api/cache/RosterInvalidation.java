@@ -0,0 +1,23 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * A roster change made on one API replica, sent to its peers. {@code sequence} increases by one per message from
+ * the same {@code origin}, so a receiver can drop duplicates and notice messages it missed.
+ */
+public record RosterInvalidation(String origin, long sequence, Type type, String id, Employee employee) {
+
+    public enum Type {
+        PUT,
+        EVICT
+    }
+
+    static RosterInvalidation put(String origin, long sequence, Employee employee) {
+        return new RosterInvalidation(origin, sequence, Type.PUT, employee.getId(), employee);
+    }
+
+    static RosterInvalidation evict(String origin, long sequence, String id) {
+        return new RosterInvalidation(origin, sequence, Type.EVICT, id, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * Told about every change to the roster held by {@link RosterCache}, with the roster that resulted from it.
+ * Notifications from concurrent changes may arrive out of version order.
+ */
+public interface RosterListener {
+
+    void onRefresh(Roster roster);
+
+    void onPut(Roster roster, Employee employee);
+
+    void onEvict(Roster roster, String id);
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.PeerInvalidationProperties;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Keeps the roster caches of several API replicas coherent. A write handled here is patched into the local
+ * {@link RosterCache} and announced to every configured peer over HTTP, which patches its own cache the same way,
+ * so long cache ttls do not mean serving deleted or missing employees from other replicas.
+ * <p>
+ * Each peer has its own single-threaded sender so messages reach it in the order they were sent. A receiver that
+ * sees a gap in an origin's sequence has missed a change it cannot reconstruct and revalidates its whole roster.
+ */
+@Slf4j
+@Component
+public class RosterPeers implements DisposableBean {
+
+    static final String PATH = "/internal/v1/roster/invalidations";
+    public static final String SECRET_HEADER = "X-Roster-Peer-Secret";
+
+    private final RosterCache rosterCache;
+    private final PeerInvalidationProperties properties;
+    private final RestTemplate restTemplate;
+    private final Map<String, ExecutorService> senders = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSequenceByOrigin = new ConcurrentHashMap<>();
+    private final Object announceLock = new Object();
+    private long sequence;
+
+    private final Counter sendFailures;
+    private final Counter duplicates;
+    private final Counter gaps;
+
+    public RosterPeers(RosterCache rosterCache, PeerInvalidationProperties properties, MeterRegistry meterRegistry) {
+        if (properties.isEnabled() && !StringUtils.hasText(properties.getSecret())) {
+            throw new IllegalStateException("employee.peers.secret is required when employee.peers.enabled is set");
+        }
+        this.rosterCache = rosterCache;
+        this.properties = properties;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.getTimeout().toMillis());
+        requestFactory.setReadTimeout((int) properties.getTimeout().toMillis());
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.restTemplate.getInterceptors().add((request, body, execution) -> {
+            request.getHeaders().set(SECRET_HEADER, properties.getSecret());
+            return execution.execute(request, body);
+        });
+        this.sendFailures = meterRegistry.counter("employee.roster.peer.invalidations", "outcome", "send-failure");
+        this.duplicates = meterRegistry.counter("employee.roster.peer.invalidations", "outcome", "duplicate");
+        this.gaps = meterRegistry.counter("employee.roster.peer.invalidations", "outcome", "gap");
+    }
+
+    public void put(Employee employee) {
+        rosterCache.put(employee);
+        announce(sequence -> RosterInvalidation.put(properties.getNodeId(), sequence, employee));
+    }
+
+    public void evict(String id) {
+        rosterCache.evict(id);
+        announce(sequence -> RosterInvalidation.evict(properties.getNodeId(), sequence, id));
+    }
+
+    /**
+     * Whether a message carrying this secret comes from a peer. Compared in constant time; always false while peers
+     * are disabled.
+     */
+    public boolean isPeer(String secret) {
+        if (!properties.isEnabled() || secret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), properties.getSecret().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Applies a change announced by a peer. Duplicates and our own messages are ignored, as is everything while
+     * peers are disabled.
+     */
+    public synchronized void receive(RosterInvalidation message) {
+        if (!properties.isEnabled() || properties.getNodeId().equals(message.origin())) {
+            return;
+        }
+        Long previous = lastSequenceByOrigin.get(message.origin());
+        if (previous != null && message.sequence() <= previous) {
+            duplicates.increment();
+            return;
+        }
+        lastSequenceByOrigin.put(message.origin(), message.sequence());
+
+        switch (message.type()) {
+            case PUT -> rosterCache.put(message.employee());
+            case EVICT -> rosterCache.evict(message.id());
+        }
+        if (previous != null && message.sequence() > previous + 1) {
+            log.warn("Missed {} roster changes from peer {}, revalidating",
+                    message.sequence() - previous - 1, message.origin());
+            gaps.increment();
+            rosterCache.revalidate();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        senders.values().forEach(ExecutorService::shutdownNow);
+    }
+
+    /*
+     * Numbered and enqueued under one lock, so each peer's queue holds messages in sequence order. Numbering first
+     * and enqueueing afterwards let two writers swap places, and the receiver dropped the lower number as a
+     * duplicate. Enqueueing never blocks: a full queue drops the message, which the receiver sees as a gap.
+     */
+    private void announce(LongFunction<RosterInvalidation> numbered) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (announceLock) {
+            RosterInvalidation message = numbered.apply(++sequence);
+            for (String peer : properties.getUrls()) {
+                sender(peer).execute(() -> send(peer, message));
+            }
+        }
+    }
+
+    private void send(String peer, RosterInvalidation message) {
+        try {
+            restTemplate.postForEntity(peer + PATH, message, Void.class);
+        } catch (RestClientException e) {
+            sendFailures.increment();
+            log.warn("Could not send roster change {} to peer {}: {}", message.sequence(), peer, e.getMessage());
+        }
+    }
+
+    private ExecutorService sender(String peer) {
+        return senders.computeIfAbsent(peer, url -> new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "roster-peer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    sendFailures.increment();
+                    log.warn("Roster change queue for peer {} is full, dropping message", url);
+                    }));
+    }
+}
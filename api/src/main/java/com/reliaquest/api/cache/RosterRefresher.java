@@ -0,0 +1,117 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.RateLimitStatus;
+import com.reliaquest.api.config.RosterRefreshProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link RosterCache} warm so user-facing reads do not wait on the upstream in steady state. The roster is
+ * prefetched before the application reports ready, then refreshed on a jittered interval that is stretched to
+ * stay within the learned upstream rate-limit budget, and paused while the upstream has us locked out.
+ */
+@Slf4j
+@Component
+public class RosterRefresher implements ApplicationRunner, DisposableBean {
+
+    private final RosterCache rosterCache;
+    private final RateLimitStatus rateLimits;
+    private final RosterRefreshProperties properties;
+    private final Clock clock = Clock.systemUTC();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "roster-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter refreshed;
+    private final Counter failed;
+    private final Counter skipped;
+
+    public RosterRefresher(
+            RosterCache rosterCache,
+            RateLimitStatus rateLimits,
+            RosterRefreshProperties properties,
+            MeterRegistry meterRegistry) {
+        this.rosterCache = rosterCache;
+        this.rateLimits = rateLimits;
+        this.properties = properties;
+        this.refreshed = meterRegistry.counter("employee.roster.refresh", "outcome", "success");
+        this.failed = meterRegistry.counter("employee.roster.refresh", "outcome", "failure");
+        this.skipped = meterRegistry.counter("employee.roster.refresh", "outcome", "rate-limited");
+        Gauge.builder("employee.roster.refresh.lag", this, RosterRefresher::lagSeconds)
+                .description("Age of the roster currently served from memory")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (properties.isPrefetchOnStartup()) {
+            refresh();
+        }
+        schedule(nextInterval());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void tick() {
+        Duration delay;
+        if (rateLimits.isLockedOut()) {
+            skipped.increment();
+            delay = Duration.between(clock.instant(), rateLimits.getLockedOutUntil());
+            log.debug("Upstream locked out, postponing roster refresh by {}", delay);
+        } else {
+            refresh();
+            delay = nextInterval();
+        }
+        schedule(delay);
+    }
+
+    private void refresh() {
+        try {
+            Roster roster = rosterCache.refresh();
+            refreshed.increment();
+            log.debug("Refreshed roster to version {} ({} employees)", roster.version(), roster.employees().size());
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Roster refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private Duration nextInterval() {
+        Duration budgeted = Duration.ofMillis(
+                (long) (rateLimits.sustainableInterval().toMillis() / properties.getBudgetShare()));
+        return budgeted.compareTo(properties.getInterval()) > 0 ? budgeted : properties.getInterval();
+    }
+
+    private void schedule(Duration delay) {
+        double factor = 1 + properties.getJitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        long delayMillis = Math.max(0, (long) (delay.toMillis() * factor));
+        scheduler.schedule(this::tick, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private double lagSeconds() {
+        return rosterCache.current()
+                .map(roster -> roster.age(clock).toMillis() / 1000.0)
+                .orElse(Double.NaN);
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.common.PrivateFiles;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binary on-disk form of a {@link Roster}: a fixed header (magic, format, fetch time, row count, payload length,
+ * CRC32C of the payload) followed by the rows, strings as length-prefixed UTF-8. Written to a temporary file and
+ * atomically renamed over the previous snapshot, so a reader sees either the old or the new file, never a torn
+ * one; read through a memory mapping and rejected as a whole if the checksum does not match.
+ *
+ * <p>A snapshot that fails the {@link PrivateFiles} ownership checks is not loaded, so another local user cannot
+ * plant a roster. The directory is created owner-only when missing.
+ */
+@Slf4j
+final class RosterSnapshot {
+
+    private static final int MAGIC = 0x52515253;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 4;
+
+    private RosterSnapshot() {}
+
+    static void write(Path path, Roster roster) throws IOException {
+        ByteBuffer payload = encode(roster.employees());
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT)
+                .putLong(roster.fetchedAt().toEpochMilli())
+                .putInt(roster.employees().size())
+                .putInt(payload.remaining())
+                .putInt((int) crc.getValue())
+                .flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        PrivateFiles.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer[] buffers = {header, payload};
+                while (header.hasRemaining() || payload.hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /*
+     * Empty when there is no snapshot or it cannot be trusted; the caller then starts cold as before.
+     */
+    static Optional<Roster> read(Path path) {
+        try {
+            Optional<String> untrusted = PrivateFiles.untrusted(path);
+            if (untrusted.isPresent()) {
+                return rejected(path, untrusted.get());
+            }
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            return rejected(path, e.toString());
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, LinkOption.NOFOLLOW_LINKS)) {
+            if (channel.size() < HEADER_BYTES) {
+                return rejected(path, "truncated header");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                return rejected(path, "unknown format");
+            }
+            Instant fetchedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            int payloadLength = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (payloadLength != buffer.remaining()) {
+                return rejected(path, "payload length mismatch");
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return rejected(path, "checksum mismatch");
+            }
+            return Optional.of(new Roster(decode(buffer, count), 1, fetchedAt));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            return rejected(path, e.toString());
+        }
+    }
+
+    private static ByteBuffer encode(List<Employee> employees) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(employees.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Employee employee : employees) {
+            putString(out, employee.getId());
+            putString(out, employee.getName());
+            out.writeInt(employee.getSalary());
+            out.writeInt(employee.getAge());
+            putString(out, employee.getTitle());
+            putString(out, employee.getEmail());
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private static List<Employee> decode(ByteBuffer buffer, int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = getString(buffer);
+            String name = getString(buffer);
+            int salary = buffer.getInt();
+            int age = buffer.getInt();
+            String title = getString(buffer);
+            String email = getString(buffer);
+            employees.add(new Employee(id, name, salary, age, title, email));
+        }
+        return employees;
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Optional<Roster> rejected(Path path, String reason) {
+        log.warn("Ignoring roster snapshot {}: {}", path, reason);
+        return Optional.empty();
+    }
+}
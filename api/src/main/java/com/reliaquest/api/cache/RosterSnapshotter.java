@@ -0,0 +1,82 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.RosterSnapshotProperties;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets the API answer reads right after a restart, even while the upstream has it locked out. On startup, before
+ * {@link RosterRefresher} prefetches, the last roster written to disk is loaded into {@link RosterCache}; from
+ * then on the roster is written out periodically whenever it changed, and once more on shutdown.
+ */
+@Slf4j
+@Component
+@Order(0)
+public class RosterSnapshotter implements ApplicationRunner, DisposableBean {
+
+    private final RosterCache rosterCache;
+    private final RosterSnapshotProperties properties;
+    private final Path path;
+    private final Clock clock = Clock.systemUTC();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "roster-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Roster written;
+
+    public RosterSnapshotter(RosterCache rosterCache, RosterSnapshotProperties properties) {
+        this.rosterCache = rosterCache;
+        this.properties = properties;
+        this.path = Path.of(properties.getPath());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        RosterSnapshot.read(path)
+                .filter(snapshot -> snapshot.age(clock).compareTo(properties.getMaxAge()) <= 0)
+                .ifPresent(snapshot -> {
+                    if (rosterCache.restore(snapshot)) {
+                        written = snapshot;
+                        log.info("Restored {} employees from roster snapshot fetched {} ago",
+                                snapshot.employees().size(), snapshot.age(clock));
+                    }
+                });
+        long interval = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::writeIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        if (properties.isEnabled()) {
+            writeIfChanged();
+        }
+    }
+
+    private synchronized void writeIfChanged() {
+        rosterCache.current().filter(roster -> roster != written).ifPresent(roster -> {
+            try {
+                RosterSnapshot.write(path, roster);
+                written = roster;
+                log.debug("Wrote roster version {} to {}", roster.version(), path);
+            } catch (IOException e) {
+                log.warn("Could not write roster snapshot to {}: {}", path, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Records on the current request that it was answered from a stale roster, so {@link StaleRosterResponseAdvice}
+ * can add the staleness headers. A no-op outside of a web request, e.g. on the background refresh thread.
+ */
+record RosterStaleness(Duration age, boolean revalidationFailed) {
+
+    static final String ATTRIBUTE = RosterStaleness.class.getName();
+
+    static void mark(Duration age, boolean revalidationFailed) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(
+                    ATTRIBUTE, new RosterStaleness(age, revalidationFailed), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code Age} and {@code Warning} headers to responses served from a roster older than its ttl.
+ */
+@RestControllerAdvice
+public class StaleRosterResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(RosterStaleness.ATTRIBUTE)
+                        instanceof RosterStaleness staleness) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.AGE, String.valueOf(staleness.age().toSeconds()));
+            headers.add(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+            if (staleness.revalidationFailed()) {
+                headers.add(HttpHeaders.WARNING, "111 - \"Revalidation Failed\"");
+            }
+        }
+        return body;
+    }
+}
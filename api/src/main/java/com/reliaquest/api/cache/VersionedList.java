@@ -0,0 +1,48 @@
+package com.reliaquest.api.cache;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list tagged with the roster version it was computed from and a key naming the computation, so
+ * {@link PreEncodedRosterConverter} can reuse its encoded bytes until the roster changes.
+ */
+public final class VersionedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final String key;
+    private final long version;
+    private final List<E> elements;
+
+    public VersionedList(String key, long version, List<E> elements) {
+        this.key = key;
+        this.version = version;
+        this.elements = List.copyOf(elements);
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Tags a result computed from this list. The key must identify the computation, since equal keys at the
+     * same version are assumed to produce identical bytes.
+     */
+    public <T> VersionedList<T> derive(String key, List<T> elements) {
+        return new VersionedList<>(key, version, elements);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeClientProperties.CircuitBreakerProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+/**
+ * Count-based circuit breaker. While closed it tracks the failure and slow-call rates over the last
+ * {@code windowSize} calls and opens once either crosses its threshold. While open, calls are rejected without
+ * reaching the upstream until {@code waitInOpenState} has passed; then a few trial calls are let through in the
+ * half-open state to decide whether to close again.
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerProperties properties;
+    private final Clock clock;
+    private final BiConsumer<State, State> onTransition;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int halfOpenPermits;
+
+    private boolean[] failures;
+    private boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failureCount;
+    private int slowCallCount;
+
+    CircuitBreaker(CircuitBreakerProperties properties, Clock clock, BiConsumer<State, State> onTransition) {
+        this.properties = properties;
+        this.clock = clock;
+        this.onTransition = onTransition;
+        resetWindow(properties.getWindowSize());
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(properties.getWaitInOpenState()))) {
+                throw new UpstreamUnavailableException("Upstream circuit breaker is open");
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= properties.getPermittedCallsInHalfOpenState()) {
+                throw new UpstreamUnavailableException("Upstream circuit breaker is half-open");
+            }
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized void onResult(Duration elapsed, boolean failure) {
+        if (state == State.OPEN) {
+            return;
+        }
+        record(failure, elapsed.compareTo(properties.getSlowCallDuration()) > 0);
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= properties.getPermittedCallsInHalfOpenState()) {
+                transitionTo(thresholdsExceeded() ? State.OPEN : State.CLOSED);
+            }
+        } else if (recorded >= properties.getMinimumCalls() && thresholdsExceeded()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failure, boolean slow) {
+        if (recorded == failures.length) {
+            failureCount -= failures[next] ? 1 : 0;
+            slowCallCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        slowCalls[next] = slow;
+        failureCount += failure ? 1 : 0;
+        slowCallCount += slow ? 1 : 0;
+        next = (next + 1) % failures.length;
+    }
+
+    private boolean thresholdsExceeded() {
+        return failureCount * 100 >= properties.getFailureRateThreshold() * recorded
+                || slowCallCount * 100 >= properties.getSlowCallRateThreshold() * recorded;
+    }
+
+    private void transitionTo(State newState) {
+        State previous = state;
+        state = newState;
+        switch (newState) {
+            case OPEN -> openedAt = clock.instant();
+            case HALF_OPEN -> {
+                halfOpenPermits = 0;
+                resetWindow(properties.getPermittedCallsInHalfOpenState());
+            }
+            case CLOSED -> resetWindow(properties.getWindowSize());
+        }
+        onTransition.accept(previous, newState);
+    }
+
+    private void resetWindow(int size) {
+        failures = new boolean[size];
+        slowCalls = new boolean[size];
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCallCount = 0;
+    }
+}
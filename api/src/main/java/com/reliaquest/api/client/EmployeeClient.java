@@ -2,86 +2,160 @@ package com.reliaquest.api.client;
 
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeCreateRequest;
+import java.io.IOException;
 import java.util.*;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Component
-public class EmployeeClient {
+public class EmployeeClient implements DisposableBean {
+
+    private final ShardRouter<ReplicaSet> shards;
+    private final ExecutorService scatterExecutor;
+    private final EmployeeTransport transport;
+    private final UpstreamGuard guard;
+    private final IdempotentReadExecutor reads;
 
-    private final String BASE_URL = "http://localhost:8112/api/v1/employee";
-    private final RestTemplate restTemplate = new RestTemplate();
+    public EmployeeClient(
+            UpstreamPool upstreams,
+            EmployeeTransport transport,
+            UpstreamGuard guard,
+            IdempotentReadExecutor reads) {
+        this.transport = transport;
+        this.guard = guard;
+        this.reads = reads;
+        this.shards = upstreams.shards();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.scatterExecutor = shards.size() > 1 ? Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "upstream-scatter-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        shards.all().forEach(shard -> log.info("Using upstream shard {}",
+                shard.members().stream().map(Upstream::getUrl).toList()));
+    }
+
+    @Override
+    public void destroy() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
 
     public List<Employee> getAllEmployees() {
-        Map<String, Object> response = restTemplate.getForObject(BASE_URL, Map.class);
-        return extractEmployeeList(response);
+        return scatter(shards.all(), shard -> reads.execute(UpstreamOperation.LIST, () -> {
+            Upstream upstream = shard.forRead();
+            return guard.call(UpstreamOperation.LIST, upstream,
+                    () -> upstream.call(() -> transport.getAll(upstream.getUrl())));
+        }));
     }
 
-    public Optional<Employee> getEmployeeById(String id) {
-        try {
-            Map<String, Object> response = restTemplate.getForObject(BASE_URL + "/" + id, Map.class);
-            return Optional.of(parseEmployee((Map<String, Object>) response.get("data")));
-        } catch (HttpClientErrorException.NotFound e) {
-            return Optional.empty();
+    /*
+     * Hands each employee to the sink as soon as the transport produces it, so memory stays bounded by a single row
+     * regardless of roster size. Shards are streamed one after another.
+     */
+    public void streamAllEmployees(Consumer<Employee> sink) {
+        for (ReplicaSet shard : shards.all()) {
+            Upstream upstream = shard.forRead();
+            guard.call(UpstreamOperation.LIST, upstream, () -> upstream.call(() -> {
+                transport.stream(upstream.getUrl(), sink);
+                return null;
+            }));
         }
     }
 
-    public Employee createEmployee(EmployeeCreateRequest request) {
-        Map<String, Object> response = restTemplate.postForObject(BASE_URL, request, Map.class);
-        return parseEmployee((Map<String, Object>) response.get("data"));
+    public Optional<Employee> getEmployeeById(String id) {
+        return reads.execute(UpstreamOperation.GET, () -> {
+            Upstream upstream = shards.forId(id).forRead();
+            return guard.call(UpstreamOperation.GET, upstream, () -> lookup(upstream, id));
+        });
     }
 
+    public List<Employee> getEmployeesByIds(Collection<String> ids) {
+        return scatter(shards.groupByShard(ids).entrySet(), shard -> reads.execute(UpstreamOperation.GET, () -> {
+            Upstream upstream = shard.getKey().forRead();
+            return guard.call(UpstreamOperation.GET, upstream,
+                    () -> upstream.call(() -> transport.getByIds(upstream.getUrl(), shard.getValue())));
+        }));
+    }
 
+    public Employee createEmployee(EmployeeCreateRequest request) {
+        ReplicaSet shard = shards.forCreate();
+        Upstream upstream = shard.primary();
+        return guard.call(UpstreamOperation.CREATE, upstream, () -> {
+            Employee created = upstream.call(() -> transport.create(upstream.getUrl(), request));
+            shard.onWrite();
+            return created;
+        });
+    }
+
+    /*
+     * The name lookup is part of the delete: it runs under the same DELETE permit and against the primary, where the
+     * delete runs, since a replica may not have the employee yet.
+     */
     public boolean deleteById(String id) {
+        ReplicaSet shard = shards.forId(id);
+        Upstream primary = shard.primary();
+        return guard.call(UpstreamOperation.DELETE, primary, () -> deleteByIdUnguarded(shard, primary, id));
+    }
+
+    private boolean deleteByIdUnguarded(ReplicaSet shard, Upstream primary, String id) {
         try {
-            Optional<Employee> employee = getEmployeeById(id);
+            Optional<Employee> employee = lookup(primary, id);
             if (employee.isEmpty() || employee.get().getName() == null) {
                 return false;
             }
 
-            Map<String, String> requestBody = new HashMap<>();
             String name = employee.get().getName();
-            requestBody.put("name", name);
-
-            log.info("name is: ", name);
 
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    BASE_URL,
-                    HttpMethod.DELETE,
-                    new HttpEntity<>(requestBody),
-                    Map.class
-            );
+            log.info("name is: {}", name);
 
-            Map<String, Object> responseBody = response.getBody();
-            return responseBody != null && Boolean.TRUE.equals(responseBody.get("data"));
-        } catch (HttpClientErrorException e) {
+            boolean deleted = primary.call(() -> transport.deleteByName(primary.getUrl(), name));
+            shard.onWrite();
+            return deleted;
+        } catch (HttpClientErrorException.NotFound e) {
+            // Deleted concurrently; any other client error, 429 included, is for the caller to handle.
             return false;
         }
     }
 
-    private List<Employee> extractEmployeeList(Map<String, Object> response) {
-        List<Map<String, Object>> data = (List<Map<String, Object>>) response.get("data");
-        List<Employee> result = new ArrayList<>();
-        for (Map<String, Object> emp : data) {
-            result.add(parseEmployee(emp));
-        }
-        return result;
+    private Optional<Employee> lookup(Upstream upstream, String id) {
+        return upstream.call(() -> transport.getById(upstream.getUrl(), id));
+    }
+
+    /**
+     * Decodes a list response through the same path as real upstream responses, without contacting an upstream.
+     * Used to warm up the decode path.
+     */
+    public List<Employee> decodeSample(Map<String, Object> response) throws IOException {
+        return transport.decodeSample(response);
     }
 
-    private Employee parseEmployee(Map<String, Object> map) {
-        return new Employee(
-                (String) map.get("id"),
-                (String) map.get("employee_name"),
-                (Integer) map.get("employee_salary") ,
-                (Integer) map.get("employee_age"),
-                (String) map.get("employee_title"),
-                (String) map.get("employee_email"));
+    /*
+     * Runs the per-shard call for every target, in parallel when there is more than one, and concatenates results.
+     * Any shard failing fails the whole call, so callers never mistake a partial roster for a complete one.
+     */
+    private <K> List<Employee> scatter(Collection<K> targets, Function<K, List<Employee>> call) {
+        if (targets.size() == 1) {
+            return call.apply(targets.iterator().next());
+        }
+        List<CompletableFuture<List<Employee>>> futures = targets.stream()
+                .map(target -> CompletableFuture.supplyAsync(() -> call.apply(target), scatterExecutor))
+                .toList();
+        List<Employee> merged = new ArrayList<>();
+        for (CompletableFuture<List<Employee>> future : futures) {
+            merged.addAll(IdempotentReadExecutor.join(future));
+        }
+        return merged;
     }
+
 }
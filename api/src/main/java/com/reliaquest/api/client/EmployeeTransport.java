@@ -0,0 +1,44 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * How {@link EmployeeClient} reaches one mock server instance, identified by its base url. Routing, rate-limit
+ * tracking and the resilience wrappers stay in the client, so every implementation must report failures the way
+ * the HTTP one does: as {@link org.springframework.web.client.RestClientResponseException} subclasses carrying the
+ * upstream status (429 in particular), or {@link org.springframework.web.client.ResourceAccessException} when the
+ * instance cannot be reached.
+ */
+public interface EmployeeTransport {
+
+    List<Employee> getAll(String baseUrl);
+
+    void stream(String baseUrl, Consumer<Employee> sink);
+
+    Optional<Employee> getById(String baseUrl, String id);
+
+    /*
+     * Unknown ids are absent from the result.
+     */
+    List<Employee> getByIds(String baseUrl, Collection<String> ids);
+
+    Employee create(String baseUrl, EmployeeCreateRequest request);
+
+    /*
+     * The mock server deletes by name; false when nobody by that name exists.
+     */
+    boolean deleteByName(String baseUrl, String name);
+
+    /**
+     * Runs a list response through this transport's decoding without contacting an upstream. Used to warm up the
+     * decode path.
+     */
+    List<Employee> decodeSample(Map<String, Object> response) throws IOException;
+}
@@ -0,0 +1,300 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Talks to mock server instances over HTTP, in the configured wire format. The only transport the API ships with;
+ * tests replace it with the in-process one from the api test fixtures by setting employee.client.transport=embedded.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee.client", name = "transport", havingValue = "http", matchIfMissing = true)
+public class HttpEmployeeTransport implements EmployeeTransport {
+
+    private final MediaType wireFormat;
+    private final RestTemplate restTemplate;
+    private final ObjectReader ndjsonReader;
+
+    public HttpEmployeeTransport(EmployeeClientProperties properties, ObjectMapper objectMapper) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) properties.getReadTimeout().toMillis());
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.wireFormat = properties.getWireFormat().getMediaType();
+        this.ndjsonReader = objectMapper.readerFor(Map.class);
+        log.info("Requesting {} from upstreams over HTTP", wireFormat);
+    }
+
+    @Override
+    public List<Employee> getAll(String baseUrl) {
+        return extractEmployeeList(exchange(baseUrl, "", HttpMethod.GET, null));
+    }
+
+    /*
+     * Reads the upstream NDJSON stream row by row and hands each employee to the sink as soon as it is decoded,
+     * so memory stays bounded by a single row regardless of roster size.
+     */
+    @Override
+    public void stream(String baseUrl, Consumer<Employee> sink) {
+        restTemplate.execute(
+                baseUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+                response -> {
+                    try (MappingIterator<Map<String, Object>> rows = ndjsonReader.readValues(response.getBody())) {
+                        while (rows.hasNext()) {
+                            sink.accept(parseEmployee(rows.next()));
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Employee> getById(String baseUrl, String id) {
+        try {
+            Map<String, Object> response = exchange(baseUrl, "/" + id, HttpMethod.GET, null);
+            return Optional.of(parseEmployee((Map<String, Object>) response.get("data")));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<Employee> getByIds(String baseUrl, Collection<String> ids) {
+        return extractEmployeeList(exchange(baseUrl, "/batch", HttpMethod.POST, Map.of("ids", ids)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Employee create(String baseUrl, EmployeeCreateRequest request) {
+        Map<String, Object> response = exchange(baseUrl, "", HttpMethod.POST, request);
+        return parseEmployee((Map<String, Object>) response.get("data"));
+    }
+
+    @Override
+    public boolean deleteByName(String baseUrl, String name) {
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("name", name);
+        Map<String, Object> responseBody = exchange(baseUrl, "", HttpMethod.DELETE, requestBody);
+        return responseBody != null && Boolean.TRUE.equals(responseBody.get("data"));
+    }
+
+    /*
+     * Encodes the response in the configured wire format and decodes it back through the same converter and parsing
+     * as real upstream responses.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Employee> decodeSample(Map<String, Object> response) throws IOException {
+        HttpMessageConverter<Object> converter =
+                (HttpMessageConverter<Object>) restTemplate.getMessageConverters().stream()
+                        .filter(candidate -> candidate.canRead(Map.class, wireFormat))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("No converter reads " + wireFormat));
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        converter.write(response, wireFormat, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return encoded;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        });
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(wireFormat);
+        Map<String, Object> decoded = (Map<String, Object>) converter.read(Map.class, new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(encoded.toByteArray());
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        });
+        return extractEmployeeList(decoded);
+    }
+
+    /*
+     * Request bodies are small and always sent as JSON; only the response encoding is negotiated. Response bytes
+     * are only counted while the upstream call event is enabled.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Map<String, Object> exchange(String baseUrl, String path, HttpMethod method, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(wireFormat));
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        RequestCallback request = restTemplate.httpEntityCallback(new HttpEntity<>(body, headers), Map.class);
+        ResponseExtractor<ResponseEntity<Map>> extractor = restTemplate.responseEntityExtractor(Map.class);
+        String url = baseUrl + path;
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        if (!event.isEnabled()) {
+            return restTemplate.execute(url, method, request, extractor).getBody();
+        }
+        event.method = method.name();
+        event.url = url;
+        event.begin();
+        try {
+            ResponseEntity<Map> response = restTemplate.execute(url, method, request, clientResponse -> {
+                CountingResponse counted = new CountingResponse(clientResponse);
+                long decodeStart = System.nanoTime();
+                ResponseEntity<Map> decoded = extractor.extractData(counted);
+                event.decodeTime = System.nanoTime() - decodeStart;
+                event.status = decoded.getStatusCode().value();
+                event.bytes = counted.bytes;
+                return decoded;
+            });
+            return response.getBody();
+        } catch (RestClientResponseException e) {
+            event.status = e.getStatusCode().value();
+            event.bytes = e.getResponseBodyAsByteArray().length;
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Employee> extractEmployeeList(Map<String, Object> response) {
+        List<Map<String, Object>> data = (List<Map<String, Object>>) response.get("data");
+        List<Employee> result = new ArrayList<>();
+        for (Map<String, Object> emp : data) {
+            result.add(parseEmployee(emp));
+        }
+        return result;
+    }
+
+    static Employee parseEmployee(Map<String, Object> map) {
+        return new Employee(
+                id(map.get("id")),
+                (String) map.get("employee_name"),
+                (Integer) map.get("employee_salary") ,
+                (Integer) map.get("employee_age"),
+                (String) map.get("employee_title"),
+                (String) map.get("employee_email"));
+    }
+
+    /*
+     * Jackson writes UUIDs as 16 raw bytes in formats with native binary values, so Smile responses carry the id as
+     * byte[] where JSON carries its string form.
+     */
+    private static String id(Object id) {
+        if (id instanceof byte[] bytes && bytes.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return (String) id;
+    }
+
+    /*
+     * Counts body bytes as the converter reads them. Mark is not supported, so bytes peeked to detect an empty body
+     * are pushed back by the caller rather than re-read and counted twice.
+     */
+    private static final class CountingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private InputStream body;
+        private long bytes;
+
+        private CountingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        int read = super.read();
+                        if (read >= 0) {
+                            bytes++;
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int read = super.read(buffer, offset, length);
+                        if (read > 0) {
+                            bytes += read;
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public boolean markSupported() {
+                        return false;
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.config.EmployeeClientProperties.HedgingProperties;
+import com.reliaquest.api.config.EmployeeClientProperties.RetryProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Runs idempotent upstream reads with budget-limited retries and, optionally, hedging. Each attempt is expected to
+ * pick its upstream instance and go through {@link UpstreamGuard} itself, so an open circuit for that instance ends
+ * the retry loop immediately.
+ */
+@Slf4j
+@Component
+public class IdempotentReadExecutor implements DisposableBean {
+
+    private final RetryProperties retry;
+    private final HedgingProperties hedging;
+    private final RateLimitStatus rateLimits;
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget budget;
+    private final Map<UpstreamOperation, LatencyWindow> latencies = new EnumMap<>(UpstreamOperation.class);
+    private final ExecutorService hedgeExecutor;
+
+    public IdempotentReadExecutor(
+            EmployeeClientProperties properties, RateLimitStatus rateLimits, MeterRegistry meterRegistry) {
+        this.retry = properties.getRetry();
+        this.hedging = properties.getHedging();
+        this.rateLimits = rateLimits;
+        this.meterRegistry = meterRegistry;
+        this.budget = new RetryBudget(retry.getBudgetRatio(), retry.getBudgetCapacity());
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            latencies.put(operation, new LatencyWindow(256));
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hedgeExecutor = hedging.isEnabled()
+                ? Executors.newFixedThreadPool(hedging.getThreads(), runnable -> {
+                    Thread thread = new Thread(runnable, "upstream-hedge-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    public <T> T execute(UpstreamOperation operation, Supplier<T> attempt) {
+        Supplier<T> timedAttempt = timed(operation, attempt);
+        budget.onRequest();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return hedgeExecutor != null ? hedged(operation, timedAttempt) : timedAttempt.get();
+            } catch (RestClientException e) {
+                Optional<Duration> backoff = backoffBeforeRetry(attemptNumber, e);
+                if (backoff.isEmpty()) {
+                    throw e;
+                }
+                log.debug("Retrying upstream {} in {} after: {}", operation, backoff.get(), e.getMessage());
+                meterRegistry.counter("employee.upstream.retries", "operation", operation.name()).increment();
+                sleep(backoff.get());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdownNow();
+        }
+    }
+
+    private Optional<Duration> backoffBeforeRetry(int attemptNumber, RestClientException e) {
+        if (attemptNumber >= retry.getMaxAttempts() || !isRetryable(e)) {
+            return Optional.empty();
+        }
+        Optional<Duration> retryAfter = e instanceof RestClientResponseException responseException
+                ? UpstreamRateLimitTracker.retryAfter(responseException.getResponseHeaders())
+                : Optional.empty();
+        if (retryAfter.isPresent() && retryAfter.get().compareTo(retry.getMaxBackoff()) > 0) {
+            return Optional.empty();
+        }
+        // Without a Retry-After a 429 backs off with jitter like any other failure, unless the upstream has us locked
+        // out: retrying within a learned lockout would only extend it.
+        if (retryAfter.isEmpty() && e instanceof HttpClientErrorException.TooManyRequests && rateLimits.isLockedOut()) {
+            return Optional.empty();
+        }
+        if (!budget.tryWithdraw()) {
+            return Optional.empty();
+        }
+        return Optional.of(retryAfter.orElseGet(() -> fullJitter(attemptNumber)));
+    }
+
+    private boolean isRetryable(RestClientException e) {
+        return e instanceof HttpClientErrorException.TooManyRequests
+                || e instanceof HttpServerErrorException
+                || e instanceof ResourceAccessException;
+    }
+
+    private Duration fullJitter(int attemptNumber) {
+        long ceiling = Math.min(
+                retry.getMaxBackoff().toMillis(), retry.getInitialBackoff().toMillis() << (attemptNumber - 1));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    /*
+     * Both attempts run on the hedge pool while the caller waits. If the primary has not finished after the hedge
+     * delay, a second attempt starts; the first success wins and the other attempt is cancelled. A failure only
+     * fails the call once no other attempt is running, so a hedge still stands in for a primary that fails, and a
+     * primary that fails before the hedge delay is retried as usual.
+     */
+    private <T> T hedged(UpstreamOperation operation, Supplier<T> attempt) {
+        Optional<Duration> delay = latencies.get(operation).percentile(hedging.getPercentile());
+        if (delay.isEmpty()) {
+            return attempt.get();
+        }
+
+        Duration hedgeAfter = delay.get().compareTo(hedging.getMinDelay()) > 0 ? delay.get() : hedging.getMinDelay();
+        HedgedCall<T> call = new HedgedCall<>(attempt, hedgeExecutor);
+        call.launch();
+        CompletableFuture.delayedExecutor(hedgeAfter.toNanos(), TimeUnit.NANOSECONDS, hedgeExecutor).execute(() -> {
+            if (call.isDone() || rateLimits.isLockedOut() || !budget.tryWithdraw()) {
+                return;
+            }
+            if (call.launch()) {
+                meterRegistry.counter("employee.upstream.hedges", "operation", operation.name()).increment();
+            }
+        });
+        return join(call.result);
+    }
+
+    private <T> Supplier<T> timed(UpstreamOperation operation, Supplier<T> attempt) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = attempt.get();
+            latencies.get(operation).record(Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        };
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * Cancelling interrupts a losing attempt that is still waiting, e.g. for a bulkhead permit. A blocking HTTP read
+     * is not interruptible, so a loser already reading finishes in the background and its result is dropped.
+     */
+    private static final class HedgedCall<T> {
+
+        private final Supplier<T> attempt;
+        private final ExecutorService executor;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<Future<?>> attempts = new ArrayList<>();
+        private int running;
+        private RuntimeException firstFailure;
+
+        private HedgedCall(Supplier<T> attempt, ExecutorService executor) {
+            this.attempt = attempt;
+            this.executor = executor;
+        }
+
+        synchronized boolean isDone() {
+            return result.isDone();
+        }
+
+        synchronized boolean launch() {
+            if (result.isDone()) {
+                return false;
+            }
+            int index = attempts.size();
+            running++;
+            attempts.add(executor.submit(() -> run(index)));
+            return true;
+        }
+
+        private void run(int index) {
+            try {
+                succeeded(index, attempt.get());
+            } catch (RuntimeException e) {
+                failed(e);
+            }
+        }
+
+        private synchronized void succeeded(int index, T value) {
+            running--;
+            if (result.complete(value)) {
+                for (int i = 0; i < attempts.size(); i++) {
+                    if (i != index) {
+                        attempts.get(i).cancel(true);
+                    }
+                }
+            }
+        }
+
+        private synchronized void failed(RuntimeException e) {
+            running--;
+            if (firstFailure == null) {
+                firstFailure = e;
+            }
+            if (running == 0) {
+                result.completeExceptionally(firstFailure);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while backing off");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Fixed-size window over the most recent successful call latencies, used to derive the hedging delay.
+ */
+class LatencyWindow {
+
+    private static final int MINIMUM_SAMPLES = 20;
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(Duration latency) {
+        samples[next] = latency.toNanos();
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    synchronized Optional<Duration> percentile(double percentile) {
+        if (size < MINIMUM_SAMPLES) {
+            return Optional.empty();
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = Math.min(size - 1, (int) Math.ceil(percentile * size) - 1);
+        return Optional.of(Duration.ofNanos(sorted[Math.max(0, index)]));
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * What background and retry logic needs to know about the upstream rate limit, either for one mock server instance
+ * or aggregated over all of them.
+ */
+public interface RateLimitStatus {
+
+    boolean isLockedOut();
+
+    Instant getLockedOutUntil();
+
+    /**
+     * Average spacing between requests that stays within the learned budget, or zero while no limit is known.
+     */
+    Duration sustainableInterval();
+}
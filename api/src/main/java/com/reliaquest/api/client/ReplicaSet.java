@@ -0,0 +1,98 @@
+package com.reliaquest.api.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * The instances serving one shard: a primary that takes all writes, plus replicas that share its reads. Reads are
+ * balanced with power-of-two-choices: two random available instances are compared and the lower
+ * {@link Upstream#score()} wins, which avoids herding onto a single "best" instance.
+ * <p>
+ * Replicas are expected to serve the primary's data, replicated with some lag. After a write, reads go to the
+ * primary for the read-your-writes window so a caller always sees its own write.
+ */
+class ReplicaSet implements RateLimitStatus {
+
+    private final List<Upstream> members;
+    private final Duration readYourWrites;
+    private final Clock clock;
+    private volatile Instant pinnedUntil = Instant.MIN;
+
+    ReplicaSet(Upstream primary, List<Upstream> replicas, Duration readYourWrites, Clock clock) {
+        this.members = Stream.concat(Stream.of(primary), replicas.stream())
+                .toList();
+        this.readYourWrites = readYourWrites;
+        this.clock = clock;
+    }
+
+    Upstream primary() {
+        return members.get(0);
+    }
+
+    List<Upstream> members() {
+        return members;
+    }
+
+    /*
+     * Called after every write to the primary.
+     */
+    void onWrite() {
+        pinnedUntil = clock.instant().plus(readYourWrites);
+    }
+
+    Upstream forRead() {
+        if (members.size() == 1 || clock.instant().isBefore(pinnedUntil)) {
+            return primary();
+        }
+        List<Upstream> candidates = members.stream().filter(Upstream::isAvailable).toList();
+        if (candidates.isEmpty()) {
+            candidates = members;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Upstream a = candidates.get(first);
+        Upstream b = candidates.get(second);
+        return a.score() <= b.score() ? a : b;
+    }
+
+    @Override
+    public boolean isLockedOut() {
+        return members.stream().allMatch(member -> member.getRateLimits().isLockedOut());
+    }
+
+    @Override
+    public Instant getLockedOutUntil() {
+        return members.stream()
+                .map(member -> member.getRateLimits().getLockedOutUntil())
+                .min(Instant::compareTo)
+                .orElse(Instant.MIN);
+    }
+
+    /*
+     * Replicas have independent budgets, so their sustainable request rates add up.
+     */
+    @Override
+    public Duration sustainableInterval() {
+        double requestsPerMilli = 0;
+        for (Upstream member : members) {
+            Duration interval = member.getRateLimits().sustainableInterval();
+            if (interval.isZero()) {
+                return Duration.ZERO;
+            }
+            requestsPerMilli += 1.0 / Math.max(1, interval.toMillis());
+        }
+        return Duration.ofMillis((long) Math.ceil(1 / requestsPerMilli));
+    }
+}
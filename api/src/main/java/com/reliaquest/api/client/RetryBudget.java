@@ -0,0 +1,30 @@
+package com.reliaquest.api.client;
+
+/**
+ * Token bucket shared by retries and hedges: every first attempt deposits {@code ratio} tokens up to
+ * {@code capacity}, and every retry or hedge withdraws one.
+ */
+class RetryBudget {
+
+    private final double ratio;
+    private final double capacity;
+    private double tokens;
+
+    RetryBudget(double ratio, int capacity) {
+        this.ratio = ratio;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    synchronized void onRequest() {
+        tokens = Math.min(capacity, tokens + ratio);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
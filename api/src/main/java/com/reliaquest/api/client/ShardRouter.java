@@ -0,0 +1,79 @@
+package com.reliaquest.api.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps employee ids to the mock server shard that owns them. Ids are hashed to 32 bits and the hash space is split
+ * into equal contiguous ranges, one per shard, using the same hash as the mock server's {@code MockShard}. This is
+ * range partitioning, not a consistent-hash ring: changing the shard count moves most ids to a different shard, so
+ * the mock servers have to be regenerated together with the API configuration.
+ *
+ * @param <S> whatever represents a shard to the caller
+ */
+class ShardRouter<S> {
+
+    private final List<S> shards;
+    private final AtomicInteger nextForCreate = new AtomicInteger();
+
+    ShardRouter(List<S> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    int size() {
+        return shards.size();
+    }
+
+    List<S> all() {
+        return shards;
+    }
+
+    /*
+     * Ids that are not UUIDs cannot exist upstream; they are sent to the first shard, which will answer 404/400.
+     */
+    S forId(String id) {
+        try {
+            return shards.get(shardOf(UUID.fromString(id), shards.size()));
+        } catch (IllegalArgumentException e) {
+            return shards.get(0);
+        }
+    }
+
+    Map<S, List<String>> groupByShard(Collection<String> ids) {
+        Map<S, List<String>> grouped = new LinkedHashMap<>();
+        for (String id : ids) {
+            grouped.computeIfAbsent(forId(id), ignored -> new ArrayList<>()).add(id);
+        }
+        return grouped;
+    }
+
+    /*
+     * The mock server assigns ids on create, always from its own range, so new employees are spread round-robin.
+     */
+    S forCreate() {
+        return shards.get(Math.floorMod(nextForCreate.getAndIncrement(), shards.size()));
+    }
+
+    static int shardOf(UUID id, int count) {
+        return (int) ((hash(id) * count) >>> 32);
+    }
+
+    /*
+     * MurmurHash3 fmix64 finalizer over both halves of the UUID, keeping the upper 32 bits. Must stay identical to
+     * MockShard.hash; ShardRouterTest checks both against each other.
+     */
+    static long hash(UUID id) {
+        long h = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h >>> 32;
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * One mock server instance: its base url, its own rate-limit tracking, and the load signals used to balance reads
+ * across replicas (calls in flight and an exponentially weighted moving average of latency).
+ */
+@Slf4j
+class Upstream {
+
+    private static final double EWMA_WEIGHT = 0.3;
+
+    @Getter
+    private final String url;
+
+    /*
+     * The shard this instance serves, named after the shard's primary url.
+     */
+    @Getter
+    private final String shard;
+
+    @Getter
+    private final UpstreamRateLimitTracker rateLimits;
+
+    private final int ejectionFailures;
+    private final Duration ejection;
+    private final Clock clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double latencyEwmaMillis;
+    private int consecutiveFailures;
+    private Instant ejectedUntil = Instant.MIN;
+
+    Upstream(String url, String shard, int ejectionFailures, Duration ejection, Clock clock) {
+        this.url = url;
+        this.shard = shard;
+        this.rateLimits = new UpstreamRateLimitTracker(clock);
+        this.ejectionFailures = ejectionFailures;
+        this.ejection = ejection;
+        this.clock = clock;
+    }
+
+    /*
+     * Every response other than a 429 was admitted by the upstream rate limiter, including 404s.
+     */
+    <T> T call(Supplier<T> call) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            rateLimits.onAdmitted();
+            onSuccess(start);
+            return result;
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            rateLimits.onRateLimited(e.getResponseHeaders());
+            throw e;
+        } catch (HttpStatusCodeException e) {
+            rateLimits.onAdmitted();
+            if (e.getStatusCode().is5xxServerError()) {
+                onFailure();
+            } else {
+                onSuccess(start);
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            onFailure();
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    boolean isAvailable() {
+        return !rateLimits.isLockedOut() && !isEjected();
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    synchronized double getLatencyEwmaMillis() {
+        return latencyEwmaMillis;
+    }
+
+    /*
+     * Lower is better: expected wait if this request queued behind everything already in flight.
+     */
+    synchronized double score() {
+        return (inFlight.get() + 1) * Math.max(latencyEwmaMillis, 1.0);
+    }
+
+    private synchronized boolean isEjected() {
+        return clock.instant().isBefore(ejectedUntil);
+    }
+
+    private synchronized void onSuccess(long startNanos) {
+        double millis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        latencyEwmaMillis = latencyEwmaMillis == 0 ? millis : EWMA_WEIGHT * millis + (1 - EWMA_WEIGHT) * latencyEwmaMillis;
+        consecutiveFailures = 0;
+    }
+
+    private synchronized void onFailure() {
+        if (++consecutiveFailures >= ejectionFailures) {
+            ejectedUntil = clock.instant().plus(ejection);
+            consecutiveFailures = 0;
+            log.warn("Ejecting upstream {} from read rotation for {}", url, ejection);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One HTTP attempt against an upstream, as seen by {@link HttpEmployeeTransport}. Retries and hedges show up as
+ * separate events; the event duration covers the whole exchange and {@code decodeTime} the body conversion within it.
+ */
+@Name("com.reliaquest.api.UpstreamCall")
+@Label("Upstream Call")
+@Category({"Employee API", "Upstream"})
+class UpstreamCallEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("URL")
+    String url;
+
+    @Label("Status")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Decode Time")
+    @Timespan
+    long decodeTime;
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.config.EmployeeClientProperties.BulkheadProperties;
+import com.reliaquest.api.config.EmployeeClientProperties.CircuitBreakerProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Wraps every {@link EmployeeClient} upstream call in a bulkhead for its operation and shard and a circuit breaker
+ * for the upstream instance it goes to, so that during an incident callers of that instance fail fast instead of piling up
+ * on request threads, while healthy shards and replicas keep serving.
+ */
+@Slf4j
+@Component
+public class UpstreamGuard {
+
+    private final Map<Upstream, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<BulkheadKey, Semaphore> bulkheads = new ConcurrentHashMap<>();
+    private final Map<UpstreamOperation, Timer> successes = new EnumMap<>(UpstreamOperation.class);
+    private final Map<UpstreamOperation, Timer> failures = new EnumMap<>(UpstreamOperation.class);
+    private final CircuitBreakerProperties circuitBreakerProperties;
+    private final BulkheadProperties bulkheadProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock = Clock.systemUTC();
+
+    public UpstreamGuard(EmployeeClientProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.bulkheadProperties = properties.getBulkhead();
+        this.circuitBreakerProperties = properties.getCircuitBreaker();
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            successes.put(operation, timer(operation, "success"));
+            failures.put(operation, timer(operation, "failure"));
+        }
+    }
+
+    <T> T call(UpstreamOperation operation, Upstream upstream, Supplier<T> call) {
+        Semaphore bulkhead = bulkheads.computeIfAbsent(new BulkheadKey(operation, upstream.getShard()), this::bulkhead);
+        if (!tryAcquire(bulkhead)) {
+            meterRegistry
+                    .counter("employee.upstream.bulkhead.rejected",
+                            "operation", operation.name(), "shard", upstream.getShard())
+                    .increment();
+            throw new UpstreamUnavailableException(
+                    "Too many concurrent upstream " + operation + " calls to shard " + upstream.getShard());
+        }
+        try {
+            CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(upstream, this::circuitBreaker);
+            circuitBreaker.acquirePermission();
+            long start = System.nanoTime();
+            boolean failure = false;
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                failure = isFailure(e);
+                throw e;
+            } finally {
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                circuitBreaker.onResult(elapsed, failure);
+                (failure ? failures : successes).get(operation).record(elapsed);
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Semaphore bulkhead(BulkheadKey key) {
+        Semaphore bulkhead = new Semaphore(bulkheadProperties.limitFor(key.operation()));
+        Gauge.builder("employee.upstream.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("operation", key.operation().name())
+                .tag("shard", key.shard())
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private CircuitBreaker circuitBreaker(Upstream upstream) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(circuitBreakerProperties, clock, (from, to) -> {
+            log.warn("Upstream {} circuit breaker {} -> {}", upstream.getUrl(), from, to);
+            meterRegistry
+                    .counter("employee.upstream.circuit.transitions",
+                            "upstream", upstream.getUrl(), "from", from.name(), "to", to.name())
+                    .increment();
+        });
+        Gauge.builder("employee.upstream.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0 closed, 1 open, 2 half-open")
+                .tag("upstream", upstream.getUrl())
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+
+    private Timer timer(UpstreamOperation operation, String outcome) {
+        return Timer.builder("employee.upstream.calls")
+                .tag("operation", operation.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /*
+     * 4xx responses other than 429 mean the upstream is healthy and answered; everything else counts against it.
+     */
+    private boolean isFailure(RuntimeException e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return clientError instanceof HttpClientErrorException.TooManyRequests;
+        }
+        return e instanceof RestClientException;
+    }
+
+    private boolean tryAcquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(bulkheadProperties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // A cancelled hedging attempt, not a full bulkhead.
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while waiting for an upstream call permit");
+        }
+    }
+
+    private record BulkheadKey(UpstreamOperation operation, String shard) {}
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.client;
+
+public enum UpstreamOperation {
+    LIST,
+    GET,
+    CREATE,
+    DELETE
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.config.EmployeeClientProperties.ShardProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Every mock server instance the API talks to, grouped into shards of primary plus read replicas. Its rate-limit
+ * view is the aggregate one: a full-roster read needs every shard, so the pool is locked out as soon as any shard
+ * has all of its instances locked out, and its sustainable interval is that of the most constrained shard.
+ */
+@Component
+public class UpstreamPool implements RateLimitStatus {
+
+    private final ShardRouter<ReplicaSet> shards;
+
+    public UpstreamPool(EmployeeClientProperties properties, MeterRegistry meterRegistry) {
+        Clock clock = Clock.systemUTC();
+        List<ShardProperties> configured = properties.getShards();
+        if (configured.isEmpty()) {
+            ShardProperties single = new ShardProperties();
+            single.setUrl(properties.getBaseUrl());
+            single.setReplicas(properties.getReplicas());
+            configured = List.of(single);
+        }
+        this.shards = new ShardRouter<>(configured.stream()
+                .map(shard -> new ReplicaSet(
+                        upstream(shard.getUrl(), shard.getUrl(), properties, clock, meterRegistry),
+                        shard.getReplicas().stream()
+                                .map(url -> upstream(url, shard.getUrl(), properties, clock, meterRegistry))
+                                .toList(),
+                        properties.getReadYourWrites(),
+                        clock))
+                .toList());
+    }
+
+    ShardRouter<ReplicaSet> shards() {
+        return shards;
+    }
+
+    @Override
+    public boolean isLockedOut() {
+        return shards.all().stream().anyMatch(ReplicaSet::isLockedOut);
+    }
+
+    @Override
+    public Instant getLockedOutUntil() {
+        return shards.all().stream()
+                .filter(ReplicaSet::isLockedOut)
+                .map(ReplicaSet::getLockedOutUntil)
+                .max(Instant::compareTo)
+                .orElse(Instant.MIN);
+    }
+
+    @Override
+    public Duration sustainableInterval() {
+        return shards.all().stream()
+                .map(ReplicaSet::sustainableInterval)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+
+    private static Upstream upstream(
+            String url, String shard, EmployeeClientProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        Upstream upstream = new Upstream(
+                url, shard, properties.getReplicaEjectionFailures(), properties.getReplicaEjection(), clock);
+        Gauge.builder("employee.upstream.in.flight", upstream, Upstream::getInFlight)
+                .tag("upstream", url)
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.latency.ewma", upstream, Upstream::getLatencyEwmaMillis)
+                .tag("upstream", url)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return upstream;
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Learns one mock server instance's rate limit from the responses {@link EmployeeClient} observes: how many requests
+ * are admitted before the first 429, and how long the lockout that follows lasts. Background work uses this to spend
+ * upstream calls without tripping the limit for user-facing requests.
+ */
+@Slf4j
+public class UpstreamRateLimitTracker implements RateLimitStatus {
+
+    private static final Duration DEFAULT_BACKOFF = Duration.ofSeconds(30);
+
+    private final Clock clock;
+
+    private int admittedSinceReset;
+    private int learnedLimit;
+    private Duration learnedBackoff = DEFAULT_BACKOFF;
+    private Instant lockedOutSince;
+    private Instant lastRateLimitedAt;
+    private Instant lockedOutUntil = Instant.MIN;
+
+    public UpstreamRateLimitTracker() {
+        this(Clock.systemUTC());
+    }
+
+    UpstreamRateLimitTracker(Clock clock) {
+        this.clock = clock;
+    }
+
+    synchronized void onAdmitted() {
+        Instant now = clock.instant();
+        if (lockedOutSince != null) {
+            // The lockout ended somewhere between the last 429 and this admission.
+            Duration lowerBound = Duration.between(lockedOutSince, lastRateLimitedAt);
+            Duration upperBound = Duration.between(lockedOutSince, now);
+            if (lowerBound.compareTo(learnedBackoff) > 0) {
+                learnedBackoff = lowerBound;
+            } else if (upperBound.compareTo(learnedBackoff) < 0) {
+                learnedBackoff = upperBound;
+            }
+            log.debug("Upstream lockout over, learned backoff {}", learnedBackoff);
+            lockedOutSince = null;
+            lockedOutUntil = Instant.MIN;
+            admittedSinceReset = 0;
+        }
+        admittedSinceReset++;
+    }
+
+    synchronized void onRateLimited(HttpHeaders headers) {
+        Instant now = clock.instant();
+        if (lockedOutSince == null) {
+            lockedOutSince = now;
+            if (admittedSinceReset > 0) {
+                learnedLimit = admittedSinceReset;
+            }
+            log.debug("Upstream rate limited after {} admitted requests", admittedSinceReset);
+        }
+        lastRateLimitedAt = now;
+
+        Instant until = retryAfter(headers)
+                .map(now::plus)
+                .orElseGet(() -> lockedOutSince.plus(learnedBackoff));
+        if (until.isAfter(lockedOutUntil)) {
+            lockedOutUntil = until;
+        }
+    }
+
+    @Override
+    public synchronized boolean isLockedOut() {
+        return clock.instant().isBefore(lockedOutUntil);
+    }
+
+    @Override
+    public synchronized Instant getLockedOutUntil() {
+        return lockedOutUntil;
+    }
+
+    /**
+     * Spends the learned budget evenly over one backoff period.
+     */
+    @Override
+    public synchronized Duration sustainableInterval() {
+        return learnedLimit == 0 ? Duration.ZERO : learnedBackoff.dividedBy(learnedLimit);
+    }
+
+    static Optional<Duration> retryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
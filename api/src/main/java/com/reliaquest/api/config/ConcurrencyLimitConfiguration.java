@@ -0,0 +1,38 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.web.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Registered here rather than as a @Component filter so that controller slice tests do not pick it up.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+    @Bean
+    public AdaptiveConcurrencyLimit adaptiveConcurrencyLimit(
+            ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties);
+        Gauge.builder("employee.inbound.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("employee.inbound.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .register(meterRegistry);
+        return limit;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimit limit, ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limit, properties.getRetryAfter(), meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
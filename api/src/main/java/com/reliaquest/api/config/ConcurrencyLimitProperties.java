@@ -0,0 +1,49 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.RequestPriority;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = false;
+
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+
+    /*
+     * Samples averaged for recent latency and for the long-term baseline it is compared against.
+     */
+    private int shortWindow = 10;
+    private int longWindow = 600;
+
+    /*
+     * Recent latency may exceed the baseline by this factor before the limit starts to shrink.
+     */
+    private double rttTolerance = 1.5;
+
+    /*
+     * Weight of each new limit estimate; lower is steadier but slower to react.
+     */
+    private double smoothing = 0.2;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /*
+     * Share of the limit each priority may fill; a LOW request is shed once in-flight requests reach that share.
+     */
+    private Map<RequestPriority, Double> shares = new EnumMap<>(Map.of(
+            RequestPriority.HIGH, 1.0,
+            RequestPriority.NORMAL, 0.9,
+            RequestPriority.LOW, 0.7));
+
+    public double shareOf(RequestPriority priority) {
+        return shares.getOrDefault(priority, 1.0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.UpstreamOperation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+
+@Data
+@ConfigurationProperties(prefix = "employee.client")
+public class EmployeeClientProperties {
+
+    private String baseUrl = "http://localhost:8112/api/v1/employee";
+
+    /*
+     * Mock server shards in hash range order; shard i owns the i-th of shards.size() equal ranges of the id hash
+     * space and must be started with mock.shard.index=i and mock.shard.count=shards.size(). Adding or removing a
+     * shard reassigns most ids. When empty, baseUrl is the only shard.
+     */
+    private List<ShardProperties> shards = new ArrayList<>();
+
+    /*
+     * Read-only replicas equivalent to baseUrl; only used when no shards are configured. A replica must serve the
+     * primary's data: separately started mock servers each generate their own roster and are not replicas.
+     */
+    private List<String> replicas = new ArrayList<>();
+
+    /*
+     * After a write to a shard, its reads go to the primary for this long, covering replication lag.
+     */
+    private Duration readYourWrites = Duration.ofSeconds(10);
+
+    /*
+     * A replica failing this many calls in a row (connection errors or 5xx) is taken out of read rotation for
+     * replicaEjection.
+     */
+    private int replicaEjectionFailures = 3;
+
+    private Duration replicaEjection = Duration.ofSeconds(10);
+
+    /*
+     * Encoding requested from the mock server via the Accept header. Smile is a binary JSON encoding that
+     * back-references repeated property names, so the employee_-prefixed keys are only sent once per payload.
+     */
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+    private BulkheadProperties bulkhead = new BulkheadProperties();
+    private RetryProperties retry = new RetryProperties();
+    private HedgingProperties hedging = new HedgingProperties();
+
+    public enum WireFormat {
+        JSON(MediaType.APPLICATION_JSON),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        @Getter
+        private final MediaType mediaType;
+
+        WireFormat(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+    }
+
+    @Data
+    public static class ShardProperties {
+
+        /*
+         * Primary for this shard; receives all writes.
+         */
+        private String url;
+
+        /*
+         * Equivalent instances that share read traffic with the primary.
+         */
+        private List<String> replicas = new ArrayList<>();
+    }
+
+    @Data
+    public static class CircuitBreakerProperties {
+
+        /*
+         * Number of most recent calls the failure and slow-call rates are computed over.
+         */
+        private int windowSize = 20;
+
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private int slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+        private Duration waitInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    /*
+     * Maximum concurrent upstream calls per operation and shard, so slow writes cannot take every thread away from
+     * reads. Each shard has its own permits, so a roster read, which scatters one call to every shard, takes one
+     * permit from each.
+     */
+    @Data
+    public static class BulkheadProperties {
+
+        private int list = 4;
+        private int get = 16;
+        private int create = 4;
+        private int delete = 4;
+        private Duration maxWait = Duration.ofMillis(50);
+
+        public int limitFor(UpstreamOperation operation) {
+            return switch (operation) {
+                case LIST -> list;
+                case GET -> get;
+                case CREATE -> create;
+                case DELETE -> delete;
+            };
+        }
+    }
+
+    /*
+     * Applies to idempotent reads only. Backoff is exponential with full jitter, and retries draw from a shared
+     * budget that refills by budgetRatio per request, so retries cannot multiply load during an upstream incident.
+     */
+    @Data
+    public static class RetryProperties {
+
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(2);
+        private double budgetRatio = 0.1;
+        private int budgetCapacity = 10;
+    }
+
+    /*
+     * When enabled, a read that has not answered within the observed latency percentile gets a second identical
+     * request, and whichever succeeds first is used. Both requests run on the hedge pool, so threads bounds the
+     * number of hedged reads in flight. Hedges spend from the retry budget.
+     */
+    @Data
+    public static class HedgingProperties {
+
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+        private int threads = 8;
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.batch")
+public class LookupBatchProperties {
+
+    private boolean enabled = true;
+
+    /*
+     * How long the first by-id lookup of a batch waits for others to join it.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /*
+     * A batch is sent as soon as it reaches this many distinct ids.
+     */
+    private int maxBatchSize = 100;
+
+    /*
+     * Batches at least this large are resolved from one full roster fetch instead of the batch endpoint.
+     */
+    private int rosterThreshold = 50;
+
+    /*
+     * Threads running flushes, i.e. the upstream calls; window deadlines fire on a separate timer thread.
+     */
+    private int threads = 2;
+
+    /*
+     * How long a caller waits for its batch to be resolved before failing like an unavailable upstream.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.peers")
+public class PeerInvalidationProperties {
+
+    private boolean enabled = false;
+
+    /*
+     * Base urls of the other API replicas, e.g. http://api-2:8111.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /*
+     * Identifies this replica as the origin of its messages. Random per start so sequence numbers never repeat.
+     */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /*
+     * Shared by all replicas and sent with every message; receivers reject messages without it. Required when
+     * enabled.
+     */
+    private String secret;
+
+    private Duration timeout = Duration.ofMillis(500);
+
+    /*
+     * Messages waiting for a slow or unreachable peer beyond this are dropped; the peer falls back on its cache ttl.
+     */
+    private int queueCapacity = 1000;
+}
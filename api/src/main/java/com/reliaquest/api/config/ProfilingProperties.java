@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "employee.profiling")
+public class ProfilingProperties {
+
+    /*
+     * Exposes the flightrecording actuator endpoint on the management port. Off by default; it is an operator tool,
+     * not part of the API.
+     */
+    private boolean enabled = false;
+
+    /*
+     * Built-in JFR settings to record with: "default" for always-on overhead, "profile" for allocation and method
+     * sampling detail.
+     */
+    private String settings = "profile";
+
+    /*
+     * Recordings stop on their own after this long even if nobody asks for the file, and older data is dropped
+     * once the recording reaches the size cap.
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.cache")
+public class RosterCacheProperties {
+
+    /*
+     * How long a fetched roster is served as fresh.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /*
+     * After the ttl, the roster is still served immediately while a single background refresh runs.
+     */
+    private Duration staleWhileRevalidate = Duration.ofSeconds(60);
+
+    /*
+     * After the ttl, the roster is served when the upstream is rate limiting or unreachable.
+     */
+    private Duration staleIfError = Duration.ofMinutes(10);
+
+    /*
+     * Minimum time between background refreshes started by reads of a stale or restored roster.
+     */
+    private Duration revalidateInterval = Duration.ofSeconds(5);
+}
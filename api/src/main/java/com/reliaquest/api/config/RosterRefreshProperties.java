@@ -0,0 +1,32 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.refresh")
+public class RosterRefreshProperties {
+
+    private boolean enabled = true;
+
+    /*
+     * Fetch the roster before the application reports ready.
+     */
+    private boolean prefetchOnStartup = true;
+
+    /*
+     * Minimum time between background refreshes; stretched when the learned rate-limit budget requires it.
+     */
+    private Duration interval = Duration.ofSeconds(15);
+
+    /*
+     * Each delay is randomized by up to this fraction in either direction so replicas do not refresh in lockstep.
+     */
+    private double jitter = 0.2;
+
+    /*
+     * Fraction of the learned upstream budget the refresher may spend; the rest is left for user-facing calls.
+     */
+    private double budgetShare = 0.5;
+}
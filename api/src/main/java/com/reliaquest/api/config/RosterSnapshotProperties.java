@@ -0,0 +1,27 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.snapshot")
+public class RosterSnapshotProperties {
+
+    private boolean enabled = false;
+
+    /*
+     * Kept out of shared directories such as java.io.tmpdir: a snapshot that another user can replace is not loaded.
+     */
+    private String path = System.getProperty("user.home") + "/.employee-api/roster.snapshot";
+
+    /*
+     * How often the roster is written out, when it changed since the last write.
+     */
+    private Duration interval = Duration.ofSeconds(30);
+
+    /*
+     * Snapshots older than this are not loaded on startup.
+     */
+    private Duration maxAge = Duration.ofHours(24);
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.web.TrafficCaptureFilter;
+import com.reliaquest.api.web.TrafficCaptureLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/*
+ * Ordered ahead of the concurrency limit filter so the capture reflects arriving traffic, including shed requests.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.capture", name = "enabled", havingValue = "true")
+public class TrafficCaptureConfiguration {
+
+    @Bean
+    public TrafficCaptureLog trafficCaptureLog(
+            TrafficCaptureProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry)
+            throws IOException {
+        return new TrafficCaptureLog(properties, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TrafficCaptureFilter> trafficCaptureFilter(
+            TrafficCaptureLog captureLog, TrafficCaptureProperties properties) {
+        FilterRegistrationBean<TrafficCaptureFilter> registration = new FilterRegistrationBean<>(
+                new TrafficCaptureFilter(captureLog, (int) properties.getMaxBodySize().toBytes()));
+        registration.addUrlPatterns("/api/v1/employee", "/api/v1/employee/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+}
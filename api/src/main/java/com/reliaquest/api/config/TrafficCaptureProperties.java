@@ -0,0 +1,29 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "employee.capture")
+public class TrafficCaptureProperties {
+
+    /*
+     * Records every employee API request to a local file for replay. Request bodies contain employee data, so this
+     * is off by default and meant for short, deliberate captures.
+     */
+    private boolean enabled = false;
+
+    private String path = "traffic-capture.ndjson";
+
+    /*
+     * Longer request bodies are truncated; replaying them will then fail validation, which shows up in the report.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(4);
+
+    /*
+     * Requests waiting to be written. When the writer falls behind further requests are dropped and counted rather
+     * than slowing down the request threads.
+     */
+    private int queueCapacity = 10_000;
+}
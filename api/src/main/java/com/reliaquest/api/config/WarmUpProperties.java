@@ -0,0 +1,18 @@
+package com.reliaquest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.warm-up")
+public class WarmUpProperties {
+
+    private boolean enabled = true;
+
+    /*
+     * Rounds of search and top-earner computation; the decode path runs once every ten rounds.
+     */
+    private int iterations = 2000;
+
+    private int rosterSize = 200;
+}
@@ -0,0 +1,42 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.PreEncodedRosterConverter;
+import com.reliaquest.api.web.PreferenceRequestCondition;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    /*
+     * Ahead of the Jackson converter, which still handles every body that is not a VersionedList.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PreEncodedRosterConverter(objectMapper));
+    }
+
+    /*
+     * Lets handlers be selected by a Prefer token rather than by an exact header value, which would miss
+     * "respond-async, wait=10".
+     */
+    @Bean
+    public WebMvcRegistrations preferenceAwareRegistrations() {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+                return PreferenceRequestCondition.handlerMapping();
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.write-behind")
+public class WriteBehindProperties {
+
+    /*
+     * Accept writes sent with "Prefer: respond-async" into the journal; without it that preference is ignored.
+     */
+    private boolean enabled = false;
+
+    /*
+     * Replayed on startup, so it must be owned by and only writable by the API's user; see RosterSnapshotProperties.
+     */
+    private String journal = System.getProperty("user.home") + "/.employee-api/write-journal.ndjson";
+
+    /*
+     * Force every journal append to disk before acknowledging the write.
+     */
+    private boolean fsync = true;
+
+    private Duration drainInterval = Duration.ofMillis(100);
+
+    /*
+     * Most operations sent upstream per drain; the next drain is then delayed by the learned rate-limit budget.
+     */
+    private int batchSize = 10;
+
+    /*
+     * Delay before retrying after the upstream rate limited or failed an operation.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /*
+     * An operation the upstream keeps deferring is given up on, and recorded as failed, after this many attempts or
+     * once it is this old, whichever comes first, so it cannot hold up every write queued behind it. Attempts are
+     * counted from the last start; age survives restarts.
+     */
+    private int maxAttempts = 100;
+
+    private Duration maxAge = Duration.ofHours(1);
+
+    /*
+     * How long the status of a finished operation can still be polled.
+     */
+    private Duration statusRetention = Duration.ofMinutes(10);
+}
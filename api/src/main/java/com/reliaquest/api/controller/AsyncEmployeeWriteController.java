@@ -0,0 +1,57 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import com.reliaquest.api.service.WriteBehindService;
+import com.reliaquest.api.service.WriteOperationStatus;
+import com.reliaquest.api.web.RequirePreference;
+import jakarta.validation.Valid;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Asynchronous variants of create and delete, selected per request with {@code Prefer: respond-async}, alone or
+ * alongside other preferences. The write is journaled and acknowledged with 202 and a status url to poll. When
+ * write-behind is disabled the preference is not matched and requests fall through to the synchronous endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee.write-behind", name = "enabled", havingValue = "true")
+public class AsyncEmployeeWriteController {
+
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    private final WriteBehindService writeBehindService;
+
+    @PostMapping
+    @RequirePreference(RESPOND_ASYNC)
+    public ResponseEntity<WriteOperationStatus> createEmployeeAsync(
+            @Valid @RequestBody EmployeeCreateRequest employeeInput) {
+        log.info("Accepting asynchronous create: {}", employeeInput.getName());
+        return accepted(writeBehindService.enqueueCreate(employeeInput));
+    }
+
+    @DeleteMapping("/{id}")
+    @RequirePreference(RESPOND_ASYNC)
+    public ResponseEntity<WriteOperationStatus> deleteEmployeeByIdAsync(@PathVariable("id") String id) {
+        log.info("Accepting asynchronous delete by ID: {}", id);
+        return accepted(writeBehindService.enqueueDelete(id));
+    }
+
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<WriteOperationStatus> getOperation(@PathVariable("operationId") String operationId) {
+        return ResponseEntity.of(writeBehindService.status(operationId));
+    }
+
+    private static ResponseEntity<WriteOperationStatus> accepted(WriteOperationStatus status) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/employee/operations/" + status.operationId()))
+                .header("Preference-Applied", RESPOND_ASYNC)
+                .body(status);
+    }
+}
@@ -1,17 +1,25 @@
 
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeCreateRequest;
 import com.reliaquest.api.service.EmployeeService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -20,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class EmployeeController implements IEmployeeController<Employee, EmployeeCreateRequest> {
 
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
 
     @Override
     @GetMapping()
@@ -28,6 +37,27 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(employeeService.getAllEmployees());
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        log.info("Streaming all employees");
+        ObjectWriter writer = objectMapper.writerFor(Employee.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> {
+                    try (SequenceWriter sequenceWriter = writer.writeValues(outputStream)) {
+                        employeeService.streamAllEmployees(employee -> {
+                            try {
+                                sequenceWriter.write(employee);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                    }
+                });
+    }
+
     @Override
     @GetMapping("/search/{searchString}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
@@ -0,0 +1,63 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.HistogramBucket;
+import com.reliaquest.api.model.TitleStats;
+import com.reliaquest.api.service.EmployeeRangeService;
+import com.reliaquest.api.service.TitleStatsService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Analytical reads over the roster that are not part of {@link IEmployeeController}.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeQueryController {
+
+    private final EmployeeRangeService rangeService;
+    private final TitleStatsService titleStatsService;
+
+    @GetMapping("/salary")
+    public ResponseEntity<List<Employee>> getEmployeesBySalaryRange(
+            @RequestParam(defaultValue = "0") int min,
+            @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int max) {
+        log.info("Fetching employees with salary between {} and {}", min, max);
+        return ResponseEntity.ok(rangeService.getBySalaryRange(min, max));
+    }
+
+    @GetMapping("/age")
+    public ResponseEntity<List<Employee>> getEmployeesByAgeRange(
+            @RequestParam(defaultValue = "0") int min,
+            @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int max) {
+        log.info("Fetching employees with age between {} and {}", min, max);
+        return ResponseEntity.ok(rangeService.getByAgeRange(min, max));
+    }
+
+    @GetMapping("/salary/histogram")
+    public ResponseEntity<List<HistogramBucket>> getSalaryHistogram(
+            @RequestParam(defaultValue = "10000") int bucketWidth) {
+        log.info("Fetching salary histogram with bucket width {}", bucketWidth);
+        return ResponseEntity.ok(rangeService.getSalaryHistogram(bucketWidth));
+    }
+
+    @GetMapping("/age/histogram")
+    public ResponseEntity<List<HistogramBucket>> getAgeHistogram(@RequestParam(defaultValue = "10") int bucketWidth) {
+        log.info("Fetching age histogram with bucket width {}", bucketWidth);
+        return ResponseEntity.ok(rangeService.getAgeHistogram(bucketWidth));
+    }
+
+    @GetMapping("/stats/by-title")
+    public ResponseEntity<List<TitleStats>> getStatsByTitle(@RequestParam(defaultValue = "3") int top) {
+        log.info("Fetching salary stats by title with top {} earners", top);
+        return ResponseEntity.ok(titleStatsService.getStatsByTitle(top));
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.FlightRecorderService;
+import com.reliaquest.api.service.RecordingStatus;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts, inspects and collects an on-demand flight recording as the {@code flightrecording} actuator endpoint, so
+ * it is served on the management port and never on the public employee API.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee.profiling", name = "enabled", havingValue = "true")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecorderService flightRecorder;
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingStatus> start(@Nullable Duration duration)
+            throws IOException, ParseException {
+        return flightRecorder.start(duration)
+                .map(status -> new WebEndpointResponse<>(status, HttpStatus.CREATED.value()))
+                .orElseGet(() -> new WebEndpointResponse<>(HttpStatus.CONFLICT.value()));
+    }
+
+    @ReadOperation
+    public RecordingStatus status() {
+        return flightRecorder.status().orElse(null);
+    }
+
+    /*
+     * Streams the dumped recording and removes the temporary file once it has been read.
+     */
+    @DeleteOperation(produces = "application/octet-stream")
+    public Resource stop() throws IOException {
+        Optional<Path> recording = flightRecorder.stop();
+        return recording.map(FlightRecordingEndpoint::deletedOnClose).orElse(null);
+    }
+
+    private static Resource deletedOnClose(Path file) {
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return new FilterInputStream(super.getInputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.RosterInvalidation;
+import com.reliaquest.api.cache.RosterPeers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Receives roster changes announced by other API replicas. Not part of the public employee API: only registered
+ * when peers are enabled, and only accepts messages carrying the shared peer secret.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee.peers", name = "enabled", havingValue = "true")
+public class RosterPeerController {
+
+    private final RosterPeers rosterPeers;
+
+    @PostMapping("/internal/v1/roster/invalidations")
+    public ResponseEntity<Void> receive(
+            @RequestHeader(value = RosterPeers.SECRET_HEADER, required = false) String secret,
+            @RequestBody RosterInvalidation invalidation) {
+        if (!rosterPeers.isPeer(secret)) {
+            log.warn("Rejected roster change claiming to come from peer {}", invalidation.origin());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        rosterPeers.receive(invalidation);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -39,6 +40,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.TOO_MANY_REQUESTS);
     }
 
+    @ExceptionHandler({UpstreamUnavailableException.class, ResourceAccessException.class})
+    public ResponseEntity<ApiError> handleUpstreamUnavailable(RuntimeException ex) {
+        ApiError errorResponse = new ApiError(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Employee data is temporarily unavailable: " + ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
 }
 
 
@@ -0,0 +1,14 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Thrown without contacting the upstream when the circuit breaker is open or an operation's bulkhead is full.
+ * Extends {@link RestClientException} so callers that fall back to cached data on upstream errors treat it alike.
+ */
+public class UpstreamUnavailableException extends RestClientException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -9,4 +9,8 @@ public class ValidationException extends RuntimeException{
     public ValidationException(Exception ex) {
         super(ex.getMessage());
     }
+
+    public ValidationException(String message) {
+        super(message);
+    }
 }
@@ -0,0 +1,6 @@
+package com.reliaquest.api.model;
+
+/**
+ * Number of employees whose value falls in {@code [from, to)}.
+ */
+public record HistogramBucket(int from, int to, int count) {}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Salary aggregates for every employee sharing a title, highest earners first in {@code topEarners}.
+ */
+public record TitleStats(
+        String title, int count, int minSalary, int maxSalary, double averageSalary, List<String> topEarners) {}
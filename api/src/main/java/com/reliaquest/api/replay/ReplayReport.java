@@ -0,0 +1,112 @@
+package com.reliaquest.api.replay;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Summarizes replay results per route and compares two replays of the same capture, typically of two builds run
+ * against the same mock server.
+ */
+public final class ReplayReport {
+
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final int MISMATCH_EXAMPLES = 10;
+
+    private ReplayReport() {}
+
+    public record RouteStats(int count, long p50Micros, long p99Micros, int failures) {}
+
+    /**
+     * Collapses ids and search fragments so requests to the same endpoint are reported together.
+     */
+    public static String route(String method, String path) {
+        String route = path.split("\\?", 2)[0];
+        route = UUID_SEGMENT.matcher(route).replaceAll("/{id}");
+        route = route.replaceFirst("/search/.*$", "/search/{fragment}");
+        return method + " " + route;
+    }
+
+    public static Map<String, RouteStats> summarize(List<ReplayResult> results) {
+        Map<String, List<ReplayResult>> byRoute =
+                results.stream().collect(Collectors.groupingBy(ReplayResult::route, TreeMap::new, Collectors.toList()));
+        Map<String, RouteStats> summary = new TreeMap<>();
+        byRoute.forEach((route, routeResults) -> {
+            long[] latencies = routeResults.stream().mapToLong(ReplayResult::latencyMicros).sorted().toArray();
+            int failures = (int) routeResults.stream().filter(ReplayResult::failed).count();
+            summary.put(route, new RouteStats(
+                    latencies.length, percentile(latencies, 0.5), percentile(latencies, 0.99), failures));
+        });
+        return summary;
+    }
+
+    public static String describe(List<ReplayResult> results) {
+        StringBuilder report = new StringBuilder(String.format("%-50s %7s %10s %10s %8s%n",
+                "route", "count", "p50 ms", "p99 ms", "errors"));
+        summarize(results).forEach((route, stats) -> report.append(String.format("%-50s %7d %10.2f %10.2f %8d%n",
+                route, stats.count(), millis(stats.p50Micros()), millis(stats.p99Micros()), stats.failures())));
+        return report.toString();
+    }
+
+    /**
+     * Latency and error deltas per route, followed by the requests whose status differs between the two runs.
+     * Results are matched by sequence number, so both must come from the same capture.
+     */
+    public static String compare(List<ReplayResult> baseline, List<ReplayResult> candidate) {
+        Map<String, RouteStats> before = summarize(baseline);
+        Map<String, RouteStats> after = summarize(candidate);
+        StringBuilder report = new StringBuilder(String.format("%-50s %10s %10s %8s %10s %10s %8s %8s%n",
+                "route", "base p50", "new p50", "p50 +/-%", "base p99", "new p99", "p99 +/-%", "errors"));
+        TreeSet<String> routes = new TreeSet<>(before.keySet());
+        routes.addAll(after.keySet());
+        RouteStats none = new RouteStats(0, 0, 0, 0);
+        for (String route : routes) {
+            RouteStats b = before.getOrDefault(route, none);
+            RouteStats a = after.getOrDefault(route, none);
+            report.append(String.format("%-50s %10.2f %10.2f %8s %10.2f %10.2f %8s %8s%n",
+                    route,
+                    millis(b.p50Micros()), millis(a.p50Micros()), delta(b.p50Micros(), a.p50Micros()),
+                    millis(b.p99Micros()), millis(a.p99Micros()), delta(b.p99Micros(), a.p99Micros()),
+                    b.failures() + " -> " + a.failures()));
+        }
+
+        Map<Integer, ReplayResult> candidateBySeq = new HashMap<>();
+        candidate.forEach(result -> candidateBySeq.put(result.seq(), result));
+        List<String> mismatches = new ArrayList<>();
+        for (ReplayResult b : baseline) {
+            ReplayResult a = candidateBySeq.get(b.seq());
+            if (a != null && a.status() != b.status()) {
+                mismatches.add(String.format("#%d %s: %d -> %d%s", b.seq(), b.route(), b.status(), a.status(),
+                        a.error() == null ? "" : " (" + a.error() + ")"));
+            }
+        }
+        report.append(String.format("%n%d of %d requests changed status%n", mismatches.size(), baseline.size()));
+        mismatches.stream().limit(MISMATCH_EXAMPLES).forEach(line -> report.append("  ").append(line).append('\n'));
+        return report.toString();
+    }
+
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String delta(long before, long after) {
+        if (before == 0) {
+            return "-";
+        }
+        return String.format("%+.1f", 100.0 * (after - before) / before);
+    }
+}
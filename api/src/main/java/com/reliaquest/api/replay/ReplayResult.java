@@ -0,0 +1,13 @@
+package com.reliaquest.api.replay;
+
+/**
+ * The outcome of replaying one captured request. {@code status} is 0 when no response arrived, with the cause in
+ * {@code error}.
+ */
+public record ReplayResult(
+        int seq, String method, String route, int status, int capturedStatus, long latencyMicros, String error) {
+
+    boolean failed() {
+        return status == 0 || status >= 500;
+    }
+}
@@ -0,0 +1,161 @@
+package com.reliaquest.api.replay;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.reliaquest.api.web.CapturedRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-drives a traffic capture against a running API, preserving the gaps between requests (scaled by a speed-up
+ * factor, with idle periods capped) rather than their concurrency, and compares the results of two replays.
+ *
+ * <pre>
+ * replay --capture=traffic-capture.ndjson --out=baseline.ndjson [--target=http://localhost:8111] [--speed=1]
+ *        [--max-gap=PT5S]
+ * compare --baseline=baseline.ndjson --candidate=candidate.ndjson
+ * </pre>
+ */
+public final class TrafficReplay {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private TrafficReplay() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+        Map<String, String> options = options(args);
+        switch (args[0]) {
+            case "replay" -> {
+                List<CapturedRequest> capture = read(Path.of(required(options, "capture")), CapturedRequest.class);
+                List<ReplayResult> results = replay(
+                        capture,
+                        URI.create(options.getOrDefault("target", "http://localhost:8111")),
+                        Double.parseDouble(options.getOrDefault("speed", "1")),
+                        Duration.parse(options.getOrDefault("max-gap", "PT5S")));
+                write(Path.of(required(options, "out")), results);
+                System.out.print(ReplayReport.describe(results));
+            }
+            case "compare" -> System.out.print(ReplayReport.compare(
+                    read(Path.of(required(options, "baseline")), ReplayResult.class),
+                    read(Path.of(required(options, "candidate")), ReplayResult.class)));
+            default -> usage();
+        }
+    }
+
+    /**
+     * Sends each request at its captured offset from the first one, divided by {@code speed}, without waiting for
+     * earlier responses, so the arrival pattern and not the client drives concurrency.
+     */
+    public static List<ReplayResult> replay(List<CapturedRequest> capture, URI target, double speed, Duration maxGap)
+            throws InterruptedException {
+        List<CapturedRequest> ordered = capture.stream()
+                .sorted(Comparator.comparingLong(CapturedRequest::at))
+                .toList();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<CompletableFuture<ReplayResult>> pending = new ArrayList<>(ordered.size());
+
+        long origin = System.nanoTime();
+        long offsetNanos = 0;
+        long previousAt = ordered.isEmpty() ? 0 : ordered.get(0).at();
+        for (int seq = 0; seq < ordered.size(); seq++) {
+            CapturedRequest captured = ordered.get(seq);
+            long gapMillis = Math.min(captured.at() - previousAt, maxGap.toMillis());
+            previousAt = captured.at();
+            offsetNanos += (long) (TimeUnit.MILLISECONDS.toNanos(gapMillis) / speed);
+            long wait = origin + offsetNanos - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            pending.add(send(client, target, seq, captured));
+        }
+        return pending.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static CompletableFuture<ReplayResult> send(
+            HttpClient client, URI target, int seq, CapturedRequest captured) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(target.resolve(captured.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .method(captured.method(), captured.body() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(captured.body()));
+        if (captured.accept() != null) {
+            request.header("Accept", captured.accept());
+        }
+        if (captured.prefer() != null) {
+            request.header("Prefer", captured.prefer());
+        }
+        if (captured.contentType() != null) {
+            request.header("Content-Type", captured.contentType());
+        }
+
+        String route = ReplayReport.route(captured.method(), captured.path());
+        long start = System.nanoTime();
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> new ReplayResult(
+                        seq,
+                        captured.method(),
+                        route,
+                        response == null ? 0 : response.statusCode(),
+                        captured.status(),
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                        error == null ? null : error.toString()));
+    }
+
+    private static <T> List<T> read(Path path, Class<T> type) throws IOException {
+        try (MappingIterator<T> lines = MAPPER.readerFor(type).readValues(path.toFile())) {
+            return lines.readAll();
+        }
+    }
+
+    private static void write(Path path, List<ReplayResult> results) throws IOException {
+        try (SequenceWriter out = MAPPER.writerFor(ReplayResult.class)
+                .withRootValueSeparator("\n")
+                .writeValues(path.toFile())) {
+            out.writeAll(results);
+        }
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+
+    private static void usage() {
+        System.err.println("usage: replay --capture=<file> --out=<file> [--target=<url>] [--speed=<factor>]"
+                + " [--max-gap=<ISO-8601 duration>]");
+        System.err.println("       compare --baseline=<file> --candidate=<file>");
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An in-memory computation over the roster. The event spans only the computation, not fetching the roster, so
+ * allocation samples inside it can be attributed to the operation. Fields are only populated when the event is
+ * enabled, so the hot paths pay nothing beyond the event object while no recording is running.
+ */
+@Name("com.reliaquest.api.EmployeeComputation")
+@Label("Employee Computation")
+@Category({"Employee API", "Service"})
+class EmployeeComputationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Roster Size")
+    int rosterSize;
+
+    @Label("Result Size")
+    int resultSize;
+
+    static EmployeeComputationEvent begin(String operation, int rosterSize) {
+        EmployeeComputationEvent event = new EmployeeComputationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.rosterSize = rosterSize;
+            event.begin();
+        }
+        return event;
+    }
+
+    void end(int resultSize) {
+        if (shouldCommit()) {
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
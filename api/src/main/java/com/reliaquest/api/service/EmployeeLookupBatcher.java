@@ -0,0 +1,163 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.config.LookupBatchProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects concurrent by-id lookups for a short window and resolves them with a single upstream call, fanning the
+ * results back out to every waiting caller. Duplicate ids within a window share one lookup.
+ * <p>
+ * A single timer thread only fires window deadlines; the blocking upstream calls run on a separate flush pool, so
+ * a slow flush never delays the deadline of the next batch.
+ */
+@Slf4j
+@Component
+public class EmployeeLookupBatcher implements DisposableBean {
+
+    private final EmployeeClient client;
+    private final RosterCache rosterCache;
+    private final LookupBatchProperties properties;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService flushes;
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+    private Batch open = new Batch();
+
+    public EmployeeLookupBatcher(
+            EmployeeClient client,
+            RosterCache rosterCache,
+            LookupBatchProperties properties,
+            MeterRegistry meterRegistry) {
+        this.client = client;
+        this.rosterCache = rosterCache;
+        this.properties = properties;
+        this.batchSizes = DistributionSummary.builder("employee.lookup.batch.size")
+                .description("Distinct ids resolved per upstream lookup")
+                .register(meterRegistry);
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lookup-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadCount = new AtomicInteger();
+        this.flushes = Executors.newFixedThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "lookup-batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Optional<Employee> find(String id) {
+        if (!properties.isEnabled()) {
+            return client.getEmployeeById(id);
+        }
+
+        CompletableFuture<Optional<Employee>> lookup;
+        Batch full = null;
+        synchronized (lock) {
+            Batch batch = open;
+            lookup = batch.lookups.computeIfAbsent(id, ignored -> new CompletableFuture<>());
+            if (batch.lookups.size() == 1) {
+                timer.schedule(() -> flushes.execute(() -> flush(batch)), properties.getWindow().toNanos(),
+                        TimeUnit.NANOSECONDS);
+            }
+            if (batch.lookups.size() >= properties.getMaxBatchSize()) {
+                full = batch;
+                open = new Batch();
+            }
+        }
+        if (full != null) {
+            Batch ready = full;
+            flushes.execute(() -> flush(ready));
+        }
+        return await(lookup, id);
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        flushes.shutdownNow();
+    }
+
+    private void flush(Batch batch) {
+        synchronized (lock) {
+            if (batch.flushed) {
+                return;
+            }
+            batch.flushed = true;
+            if (open == batch) {
+                open = new Batch();
+            }
+        }
+
+        Set<String> ids = batch.lookups.keySet();
+        batchSizes.record(ids.size());
+        try {
+            Map<String, Employee> found = resolve(ids).stream()
+                    .collect(Collectors.toMap(Employee::getId, Function.identity(), (first, second) -> first));
+            batch.lookups.forEach((id, lookup) -> lookup.complete(Optional.ofNullable(found.get(id))));
+        } catch (RuntimeException e) {
+            batch.lookups.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+
+    private List<Employee> resolve(Set<String> ids) {
+        if (ids.size() == 1) {
+            return client.getEmployeeById(ids.iterator().next()).stream().toList();
+        }
+        if (ids.size() >= properties.getRosterThreshold()) {
+            log.debug("Resolving {} ids from a full roster fetch", ids.size());
+            return rosterCache.refresh().employees();
+        }
+        return client.getEmployeesByIds(ids);
+    }
+
+    /*
+     * Bounded, so a caller never outlives its own request waiting on a batch whose flush is stuck; the flush itself
+     * still completes and serves any later joiners.
+     */
+    private Optional<Employee> await(CompletableFuture<Optional<Employee>> lookup, String id) {
+        try {
+            return lookup.get(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new UpstreamUnavailableException("Timed out waiting for batched lookup of " + id);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while waiting for batched lookup of " + id);
+        }
+    }
+
+    private static final class Batch {
+        private final Map<String, CompletableFuture<Optional<Employee>>> lookups = new LinkedHashMap<>();
+        private boolean flushed;
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.HistogramBucket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+
+/**
+ * Salary and age range queries and histograms over the cached roster. Sorted indexes are built once per roster
+ * version and shared by every query until the next refresh or write.
+ */
+@Service
+public class EmployeeRangeService {
+
+    static final int MAX_BUCKETS = 1000;
+
+    private final RosterCache rosterCache;
+    private final AtomicReference<Indexes> indexes = new AtomicReference<>();
+
+    public EmployeeRangeService(RosterCache rosterCache) {
+        this.rosterCache = rosterCache;
+    }
+
+    public List<Employee> getBySalaryRange(int min, int max) {
+        return between(Indexes::salary, min, max);
+    }
+
+    public List<Employee> getByAgeRange(int min, int max) {
+        return between(Indexes::age, min, max);
+    }
+
+    public List<HistogramBucket> getSalaryHistogram(int bucketWidth) {
+        return histogram(Indexes::salary, bucketWidth);
+    }
+
+    public List<HistogramBucket> getAgeHistogram(int bucketWidth) {
+        return histogram(Indexes::age, bucketWidth);
+    }
+
+    private List<Employee> between(Function<Indexes, IntRangeIndex> column, int min, int max) {
+        if (min > max) {
+            throw new ValidationException("min must not be greater than max");
+        }
+        Indexes current = indexes();
+        int[] rows = column.apply(current).rowsBetween(min, max);
+        List<Employee> employees = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            employees.add(current.employees().get(row));
+        }
+        return employees;
+    }
+
+    private List<HistogramBucket> histogram(Function<Indexes, IntRangeIndex> column, int bucketWidth) {
+        if (bucketWidth <= 0) {
+            throw new ValidationException("bucketWidth must be positive");
+        }
+        IntRangeIndex index = column.apply(indexes());
+        if (index.size() == 0) {
+            return List.of();
+        }
+
+        long first = Math.floorDiv(index.min(), bucketWidth) * (long) bucketWidth;
+        long buckets = (index.max() - first) / bucketWidth + 1;
+        if (buckets > MAX_BUCKETS) {
+            throw new ValidationException("bucketWidth " + bucketWidth + " yields more than " + MAX_BUCKETS + " buckets");
+        }
+        List<HistogramBucket> histogram = new ArrayList<>((int) buckets);
+        for (long from = first; from <= index.max(); from += bucketWidth) {
+            long to = from + bucketWidth;
+            int count = index.countBetween((int) from, (int) Math.min(to - 1, Integer.MAX_VALUE));
+            histogram.add(new HistogramBucket((int) from, (int) Math.min(to, Integer.MAX_VALUE), count));
+        }
+        return histogram;
+    }
+
+    private Indexes indexes() {
+        Roster roster = rosterCache.get();
+        return indexes.updateAndGet(current ->
+                current != null && current.version() == roster.version() ? current : Indexes.of(roster));
+    }
+
+    private record Indexes(long version, List<Employee> employees, IntRangeIndex salary, IntRangeIndex age) {
+
+        static Indexes of(Roster roster) {
+            List<Employee> employees = roster.employees();
+            return new Indexes(
+                    roster.version(),
+                    employees,
+                    IntRangeIndex.of(employees, Employee::getSalary),
+                    IntRangeIndex.of(employees, Employee::getAge));
+        }
+    }
+}
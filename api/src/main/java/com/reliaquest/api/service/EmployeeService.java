@@ -1,44 +1,84 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterPeers;
+import com.reliaquest.api.cache.VersionedList;
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeCreateRequest;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
 
     private final EmployeeClient client;
+    private final RosterCache rosterCache;
+    private final EmployeeLookupBatcher lookupBatcher;
+    private final RosterPeers rosterPeers;
 
     public List<Employee> getAllEmployees() {
-        return client.getAllEmployees();
+        return rosterCache.getEmployees();
+    }
+
+    public void streamAllEmployees(Consumer<Employee> sink) {
+        client.streamAllEmployees(sink);
     }
 
     public List<Employee> searchByName(String fragment) {
-        return client.getAllEmployees().stream()
+        List<Employee> employees = rosterCache.getEmployees();
+        EmployeeComputationEvent event = EmployeeComputationEvent.begin("searchByName", employees.size());
+        List<Employee> matches = searchByName(employees, fragment);
+        event.end(matches.size());
+        return matches;
+    }
+
+    static List<Employee> searchByName(List<Employee> employees, String fragment) {
+        return employees.stream()
                 .filter(e -> e.getName().toLowerCase().contains(fragment.toLowerCase()))
                 .collect(Collectors.toList());
     }
 
     public Employee getById(UUID id) {
-        return client.getEmployeeById(id.toString())
-                .orElseThrow(() -> new EmployeeNotFoundException(id.toString()));
+        Optional<Employee> employee;
+        try {
+            employee = lookupBatcher.find(id.toString());
+        } catch (RestClientException e) {
+            if (!RosterCache.isUpstreamFailure(e)) {
+                throw e;
+            }
+            employee = Optional.of(rosterCache.findIfError(id.toString()).orElseThrow(() -> e));
+        }
+        return employee.orElseThrow(() -> new EmployeeNotFoundException(id.toString()));
     }
 
     public int getHighestSalary() {
-        return client.getAllEmployees().stream()
+        List<Employee> employees = rosterCache.getEmployees();
+        EmployeeComputationEvent event = EmployeeComputationEvent.begin("getHighestSalary", employees.size());
+        int highest = employees.stream()
                 .mapToInt(Employee::getSalary)
                 .max()
                 .orElse(0);
+        event.end(1);
+        return highest;
     }
 
     public List<String> getTop10Earners() {
-        return client.getAllEmployees().stream()
+        List<Employee> employees = rosterCache.getEmployees();
+        EmployeeComputationEvent event = EmployeeComputationEvent.begin("getTop10Earners", employees.size());
+        List<String> top10 = top10Earners(employees);
+        event.end(top10.size());
+        return employees instanceof VersionedList<Employee> roster ? roster.derive("top10", top10) : top10;
+    }
+
+    static List<String> top10Earners(List<Employee> employees) {
+        return employees.stream()
                 .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
                 .limit(10)
                 .map(Employee::getName)
@@ -46,10 +86,16 @@ public class EmployeeService {
     }
 
     public Employee createEmployee(EmployeeCreateRequest request) {
-        return client.createEmployee(request);
+        Employee created = client.createEmployee(request);
+        rosterPeers.put(created);
+        return created;
     }
 
-    public boolean deleteById(String name) {
-        return client.deleteById(name);
+    public boolean deleteById(String id) {
+        boolean deleted = client.deleteById(id);
+        if (deleted) {
+            rosterPeers.evict(id);
+        }
+        return deleted;
     }
 }
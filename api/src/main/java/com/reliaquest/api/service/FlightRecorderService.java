@@ -0,0 +1,103 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.ProfilingProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs at most one bounded flight recording at a time, started and collected over HTTP, so a production instance
+ * can be profiled without restarting it with JFR flags. The custom upstream and computation events are recorded
+ * alongside the built-in ones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee.profiling", name = "enabled", havingValue = "true")
+public class FlightRecorderService implements DisposableBean {
+
+    private final ProfilingProperties properties;
+
+    private Recording recording;
+
+    /**
+     * Starts a recording for the requested duration, capped at the configured maximum. Empty when one is already
+     * running.
+     */
+    public synchronized Optional<RecordingStatus> start(Duration requested) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        discard();
+
+        Duration duration = requested == null || requested.compareTo(properties.getMaxDuration()) > 0
+                ? properties.getMaxDuration()
+                : requested;
+        Recording started = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        started.setName("employee-api-on-demand");
+        started.setToDisk(true);
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        started.setDuration(duration);
+        started.start();
+        recording = started;
+        log.info("Started flight recording {} with {} settings for {}", started.getId(), properties.getSettings(),
+                duration);
+        return Optional.of(status(started));
+    }
+
+    public synchronized Optional<RecordingStatus> status() {
+        return Optional.ofNullable(recording).map(FlightRecorderService::status);
+    }
+
+    /**
+     * Stops the current recording if it is still running and dumps it to a temporary file, which the caller owns
+     * and must delete. A recording that already reached its duration can still be collected this way.
+     */
+    public synchronized Optional<Path> stop() throws IOException {
+        if (recording == null) {
+            return Optional.empty();
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path file = Files.createTempFile("employee-api-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } finally {
+            discard();
+        }
+        log.info("Collected flight recording into {} ({} bytes)", file, Files.size(file));
+        return Optional.of(file);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        discard();
+    }
+
+    private void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static RecordingStatus status(Recording recording) {
+        return new RecordingStatus(recording.getId(), recording.getName(), recording.getState().name(),
+                recording.getStartTime(), recording.getDuration());
+    }
+}
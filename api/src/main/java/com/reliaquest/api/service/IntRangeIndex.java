@@ -0,0 +1,90 @@
+package com.reliaquest.api.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * One int column of the roster sorted ascending, with the row each value came from. Range lookups are two binary
+ * searches plus a copy of the matching rows, O(log n + k), with no boxing.
+ */
+final class IntRangeIndex {
+
+    private final int[] values;
+    private final int[] rows;
+
+    private IntRangeIndex(int[] values, int[] rows) {
+        this.values = values;
+        this.rows = rows;
+    }
+
+    /*
+     * Sorts value and row together as one primitive long: value in the high half keeps the order, row in the low
+     * half rides along and breaks ties by roster position.
+     */
+    static <T> IntRangeIndex of(List<T> rows, ToIntFunction<T> column) {
+        long[] packed = new long[rows.size()];
+        for (int row = 0; row < packed.length; row++) {
+            packed[row] = ((long) column.applyAsInt(rows.get(row)) << 32) | row;
+        }
+        Arrays.sort(packed);
+
+        int[] values = new int[packed.length];
+        int[] rowIds = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            values[i] = (int) (packed[i] >> 32);
+            rowIds[i] = (int) packed[i];
+        }
+        return new IntRangeIndex(values, rowIds);
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * Rows whose value is within {@code [min, max]}, in ascending value order.
+     */
+    int[] rowsBetween(int min, int max) {
+        if (min > max) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(rows, lowerBound(min), upperBound(max));
+    }
+
+    int countBetween(int min, int max) {
+        return min > max ? 0 : upperBound(max) - lowerBound(min);
+    }
+
+    int min() {
+        return values[0];
+    }
+
+    int max() {
+        return values[values.length - 1];
+    }
+
+    /*
+     * First position whose value is >= the given one.
+     */
+    private int lowerBound(int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * First position whose value is > the given one.
+     */
+    private int upperBound(int value) {
+        return value == Integer.MAX_VALUE ? values.length : lowerBound(value + 1);
+    }
+}
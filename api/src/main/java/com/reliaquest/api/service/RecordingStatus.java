@@ -0,0 +1,6 @@
+package com.reliaquest.api.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record RecordingStatus(long id, String name, String state, Instant startedAt, Duration duration) {}
@@ -0,0 +1,159 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleStats;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-title salary aggregates kept up to date as the roster changes. Titles are dictionary encoded: each distinct
+ * title gets an int code and a group holding its running count, sum and salary-ordered members, so a create or
+ * delete patches one group in O(log n) and a query costs O(groups) regardless of roster size.
+ * <p>
+ * A full refresh, or a change notification that does not directly follow the version we hold, rebuilds the
+ * groups from the roster.
+ */
+@Service
+public class TitleStatsService implements RosterListener {
+
+    static final int MAX_TOP_EARNERS = 10;
+
+    private static final Comparator<Member> BY_SALARY_DESCENDING =
+            Comparator.comparingInt(Member::salary).reversed().thenComparing(Member::id);
+
+    private final RosterCache rosterCache;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> titles = new ArrayList<>();
+    private final List<Group> groups = new ArrayList<>();
+    private final Map<String, Member> members = new HashMap<>();
+    private long version = -1;
+
+    public TitleStatsService(RosterCache rosterCache) {
+        this.rosterCache = rosterCache;
+        rosterCache.addListener(this);
+    }
+
+    public List<TitleStats> getStatsByTitle(int topEarners) {
+        if (topEarners < 0 || topEarners > MAX_TOP_EARNERS) {
+            throw new ValidationException("top must be between 0 and " + MAX_TOP_EARNERS);
+        }
+        Roster roster = rosterCache.get();
+        synchronized (this) {
+            if (version < roster.version()) {
+                rebuild(roster);
+            }
+            List<TitleStats> stats = new ArrayList<>(groups.size());
+            for (int code = 0; code < groups.size(); code++) {
+                Group group = groups.get(code);
+                if (!group.members.isEmpty()) {
+                    stats.add(group.stats(titles.get(code), topEarners));
+                }
+            }
+            return stats;
+        }
+    }
+
+    @Override
+    public synchronized void onRefresh(Roster roster) {
+        if (roster.version() > version) {
+            rebuild(roster);
+        }
+    }
+
+    @Override
+    public synchronized void onPut(Roster roster, Employee employee) {
+        if (roster.version() <= version) {
+            return;
+        }
+        if (roster.version() != version + 1) {
+            rebuild(roster);
+            return;
+        }
+        remove(employee.getId());
+        add(employee);
+        version = roster.version();
+    }
+
+    @Override
+    public synchronized void onEvict(Roster roster, String id) {
+        if (roster.version() <= version) {
+            return;
+        }
+        if (roster.version() != version + 1) {
+            rebuild(roster);
+            return;
+        }
+        remove(id);
+        version = roster.version();
+    }
+
+    private void rebuild(Roster roster) {
+        groups.forEach(Group::clear);
+        members.clear();
+        roster.employees().forEach(this::add);
+        version = roster.version();
+    }
+
+    private void add(Employee employee) {
+        int code = dictionary.computeIfAbsent(employee.getTitle(), title -> {
+            titles.add(title);
+            groups.add(new Group());
+            return titles.size() - 1;
+        });
+        Member member = new Member(employee.getId(), employee.getName(), employee.getSalary(), code);
+        members.put(member.id(), member);
+        groups.get(code).add(member);
+    }
+
+    private void remove(String id) {
+        Member member = members.remove(id);
+        if (member != null) {
+            groups.get(member.titleCode()).remove(member);
+        }
+    }
+
+    private record Member(String id, String name, int salary, int titleCode) {}
+
+    private static final class Group {
+
+        private final TreeSet<Member> members = new TreeSet<>(BY_SALARY_DESCENDING);
+        private long salarySum;
+
+        void add(Member member) {
+            if (members.add(member)) {
+                salarySum += member.salary();
+            }
+        }
+
+        void remove(Member member) {
+            if (members.remove(member)) {
+                salarySum -= member.salary();
+            }
+        }
+
+        void clear() {
+            members.clear();
+            salarySum = 0;
+        }
+
+        TitleStats stats(String title, int topEarners) {
+            return new TitleStats(
+                    title,
+                    members.size(),
+                    members.last().salary(),
+                    members.first().salary(),
+                    (double) salarySum / members.size(),
+                    members.stream().limit(topEarners).map(Member::name).toList());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.RateLimitStatus;
+import com.reliaquest.api.config.WriteBehindProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Accepts creates and deletes into a local {@link WriteJournal} and acknowledges them before they reach the
+ * upstream. A single worker drains the journal in order, a batch at a time, pausing while the upstream has us
+ * locked out and spacing batches by the learned rate-limit budget. Operations are executed at least once: one
+ * that completed upstream just before a crash is replayed after the restart. One the upstream keeps deferring is
+ * dead-lettered, recorded as failed, once it runs out of attempts or grows too old.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "employee.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindService implements ApplicationRunner, DisposableBean {
+
+    private final EmployeeService employeeService;
+    private final RateLimitStatus rateLimits;
+    private final WriteBehindProperties properties;
+    private final WriteJournal journal;
+    private final Clock clock = Clock.systemUTC();
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private final Deque<WriteOperation> queue = new ConcurrentLinkedDeque<>();
+    private final Map<String, WriteOperationStatus> statuses = new ConcurrentHashMap<>();
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final Counter deadLettered;
+
+    public WriteBehindService(
+            EmployeeService employeeService,
+            RateLimitStatus rateLimits,
+            WriteBehindProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) throws IOException {
+        this.employeeService = employeeService;
+        this.rateLimits = rateLimits;
+        this.properties = properties;
+        this.journal = new WriteJournal(Path.of(properties.getJournal()), objectMapper, properties.isFsync());
+        Gauge.builder("employee.write.behind.pending", queue, Deque::size)
+                .description("Accepted writes not yet applied upstream")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("employee.write.behind.dead.lettered")
+                .description("Accepted writes given up on after the upstream kept deferring them")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        recover();
+        worker.schedule(this::tick, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        worker.shutdownNow();
+        journal.close();
+    }
+
+    public WriteOperationStatus enqueueCreate(EmployeeCreateRequest request) {
+        return enqueue(WriteOperation.create(request, clock.instant()));
+    }
+
+    public WriteOperationStatus enqueueDelete(String employeeId) {
+        return enqueue(WriteOperation.delete(employeeId, clock.instant()));
+    }
+
+    public Optional<WriteOperationStatus> status(String operationId) {
+        return Optional.ofNullable(statuses.get(operationId));
+    }
+
+    void recover() throws IOException {
+        for (WriteOperation operation : journal.pending()) {
+            statuses.put(operation.id(), WriteOperationStatus.pending(operation));
+            queue.add(operation);
+        }
+        if (!queue.isEmpty()) {
+            log.info("Replaying {} journaled writes", queue.size());
+        }
+    }
+
+    /*
+     * Returns how many operations finished, successfully or not. Stops at the first one the upstream could not
+     * take right now, leaving it at the head of the queue.
+     */
+    int drainOnce() {
+        int finished = 0;
+        while (finished < properties.getBatchSize() && !rateLimits.isLockedOut()) {
+            WriteOperation operation = queue.peek();
+            if (operation == null || !apply(operation)) {
+                break;
+            }
+            queue.poll();
+            finished++;
+        }
+        if (finished > 0) {
+            compactIfIdle();
+        }
+        return finished;
+    }
+
+    private WriteOperationStatus enqueue(WriteOperation operation) {
+        WriteOperationStatus status = WriteOperationStatus.pending(operation);
+        synchronized (lock) {
+            try {
+                journal.append(WriteJournal.Entry.accepted(operation));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not journal write " + operation.id(), e);
+            }
+            statuses.put(operation.id(), status);
+            queue.add(operation);
+        }
+        return status;
+    }
+
+    private void tick() {
+        Duration delay = properties.getDrainInterval();
+        try {
+            int finished = drainOnce();
+            delay = nextDelay(finished);
+            evictExpiredStatuses();
+        } catch (RuntimeException e) {
+            log.error("Write-behind drain failed", e);
+        } finally {
+            if (!worker.isShutdown()) {
+                worker.schedule(this::tick, delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private Duration nextDelay(int finished) {
+        if (rateLimits.isLockedOut()) {
+            return max(properties.getDrainInterval(), Duration.between(clock.instant(), rateLimits.getLockedOutUntil()));
+        }
+        if (finished == 0 && !queue.isEmpty()) {
+            return max(properties.getDrainInterval(), properties.getRetryBackoff());
+        }
+        return max(properties.getDrainInterval(), rateLimits.sustainableInterval().multipliedBy(finished));
+    }
+
+    /*
+     * False when the operation should be retried later; a rejection by the upstream is final, and so is running out
+     * of attempts.
+     */
+    private boolean apply(WriteOperation operation) {
+        try {
+            Object result = switch (operation.type()) {
+                case CREATE -> employeeService.createEmployee(operation.request());
+                case DELETE -> employeeService.deleteById(operation.employeeId());
+            };
+            complete(operation, WriteOperationStatus.State.SUCCEEDED, result, null);
+            return true;
+        } catch (HttpClientErrorException.TooManyRequests
+                | HttpServerErrorException
+                | UpstreamUnavailableException
+                | ResourceAccessException e) {
+            int attempt = attempts.merge(operation.id(), 1, Integer::sum);
+            if (attempt < properties.getMaxAttempts() && !expired(operation)) {
+                log.debug("Deferring write {} after attempt {}: {}", operation.id(), attempt, e.getMessage());
+                return false;
+            }
+            log.error("Dead-lettering write {} {} after {} attempts: {}",
+                    operation.id(), operation.type(), attempt, e.getMessage());
+            deadLettered.increment();
+            complete(operation, WriteOperationStatus.State.FAILED, null,
+                    "Gave up after %d attempts: %s".formatted(attempt, e.getMessage()));
+            return true;
+        } catch (RestClientException e) {
+            log.warn("Write {} rejected by upstream: {}", operation.id(), e.getMessage());
+            complete(operation, WriteOperationStatus.State.FAILED, null, e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean expired(WriteOperation operation) {
+        return Duration.between(operation.acceptedAt(), clock.instant()).compareTo(properties.getMaxAge()) > 0;
+    }
+
+    private void complete(WriteOperation operation, WriteOperationStatus.State state, Object result, String error) {
+        attempts.remove(operation.id());
+        try {
+            journal.append(WriteJournal.Entry.completed(operation.id()));
+        } catch (IOException e) {
+            log.warn("Could not journal completion of write {}; it may be replayed", operation.id(), e);
+        }
+        statuses.computeIfPresent(
+                operation.id(), (id, status) -> status.complete(state, result, error, clock.instant()));
+    }
+
+    private void compactIfIdle() {
+        synchronized (lock) {
+            if (!queue.isEmpty()) {
+                return;
+            }
+            try {
+                journal.truncate();
+            } catch (IOException e) {
+                log.warn("Could not truncate write journal: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void evictExpiredStatuses() {
+        Instant cutoff = clock.instant().minus(properties.getStatusRetention());
+        statuses.values().removeIf(status -> status.completedAt() != null && status.completedAt().isBefore(cutoff));
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
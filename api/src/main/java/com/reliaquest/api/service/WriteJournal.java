@@ -0,0 +1,111 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.common.PrivateFiles;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of accepted and completed write operations, one JSON entry per line. Operations accepted but
+ * never completed are replayed after a restart. The file is truncated whenever nothing is pending.
+ *
+ * <p>Since replayed entries become upstream creates and deletes, a journal that fails the {@link PrivateFiles}
+ * ownership checks is refused outright, and a new journal and its directory are created owner-only.
+ */
+@Slf4j
+class WriteJournal implements AutoCloseable {
+
+    record Entry(WriteOperation accepted, String completed) {
+
+        static Entry accepted(WriteOperation operation) {
+            return new Entry(operation, null);
+        }
+
+        static Entry completed(String operationId) {
+            return new Entry(null, operationId);
+        }
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final FileChannel channel;
+
+    WriteJournal(Path path, ObjectMapper objectMapper, boolean fsync) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        PrivateFiles.createDirectories(path.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(
+                path,
+                Set.of(StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND,
+                        LinkOption.NOFOLLOW_LINKS),
+                PrivateFiles.ownerOnly(path));
+        Optional<String> untrusted = PrivateFiles.untrusted(path);
+        if (untrusted.isPresent()) {
+            channel.close();
+            throw new IOException("Refusing write journal " + path + ": " + untrusted.get());
+        }
+    }
+
+    synchronized void append(Entry entry) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(entry);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    /*
+     * A torn last line from a crash mid-append is skipped: that write was never acknowledged.
+     */
+    synchronized List<WriteOperation> pending() throws IOException {
+        List<WriteOperation> accepted = new ArrayList<>();
+        Set<String> completed = new HashSet<>();
+        for (String line : Files.readAllLines(path)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Entry entry = objectMapper.readValue(line, Entry.class);
+                if (entry.accepted() != null) {
+                    accepted.add(entry.accepted());
+                } else if (entry.completed() != null) {
+                    completed.add(entry.completed());
+                }
+            } catch (IOException e) {
+                log.warn("Skipping unreadable write journal entry in {}: {}", path, e.getMessage());
+            }
+        }
+        accepted.removeIf(operation -> completed.contains(operation.id()));
+        return accepted;
+    }
+
+    synchronized void truncate() throws IOException {
+        channel.truncate(0);
+        if (fsync) {
+            channel.force(true);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A create or delete accepted for asynchronous execution against the upstream.
+ */
+public record WriteOperation(String id, Type type, EmployeeCreateRequest request, String employeeId, Instant acceptedAt) {
+
+    public enum Type {
+        CREATE,
+        DELETE
+    }
+
+    static WriteOperation create(EmployeeCreateRequest request, Instant acceptedAt) {
+        return new WriteOperation(UUID.randomUUID().toString(), Type.CREATE, request, null, acceptedAt);
+    }
+
+    static WriteOperation delete(String employeeId, Instant acceptedAt) {
+        return new WriteOperation(UUID.randomUUID().toString(), Type.DELETE, null, employeeId, acceptedAt);
+    }
+}
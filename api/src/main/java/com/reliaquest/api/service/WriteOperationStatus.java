@@ -0,0 +1,33 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+
+/**
+ * What a client polling an asynchronous write sees. {@code result} is the created employee or the delete outcome.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WriteOperationStatus(
+        String operationId,
+        WriteOperation.Type type,
+        State state,
+        Object result,
+        String error,
+        Instant acceptedAt,
+        Instant completedAt) {
+
+    public enum State {
+        PENDING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    static WriteOperationStatus pending(WriteOperation operation) {
+        return new WriteOperationStatus(
+                operation.id(), operation.type(), State.PENDING, null, null, operation.acceptedAt(), null);
+    }
+
+    WriteOperationStatus complete(State state, Object result, String error, Instant completedAt) {
+        return new WriteOperationStatus(operationId, type, state, result, error, acceptedAt, completedAt);
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.ConcurrencyLimitProperties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style adaptive concurrency limit. A long-term moving average of request latency stands in for the
+ * no-load latency; whenever recent latency rises above it (beyond a tolerance), the limit shrinks in proportion,
+ * and while latency stays flat the limit grows by a small queue allowance. Excess requests are then rejected
+ * up front instead of queueing until everything times out.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * Takes a slot if fewer than {@code limit * share} requests are in flight; lower priorities get a smaller
+     * share so they are shed first.
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * properties.shareOf(priority)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /*
+     * Called with the latency of a request that held a slot. A limit that is not in use, because the load is lower,
+     * is left alone so it does not grow without evidence.
+     */
+    public synchronized void onSample(long rttNanos) {
+        shortRttNanos = ewma(shortRttNanos, rttNanos, properties.getShortWindow());
+        longRttNanos = ewma(longRttNanos, rttNanos, properties.getLongWindow());
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inFlight.get() + 1 < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / shortRttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        double smoothed = limit * (1 - properties.getSmoothing()) + target * properties.getSmoothing();
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), smoothed));
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private static double ewma(double average, long sample, int window) {
+        return average == 0 ? sample : average + (sample - average) * 2.0 / (window + 1);
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a traffic capture. {@code at} is the arrival time in epoch millis; replay only uses the gaps between
+ * entries. Only the headers that select a different endpoint are kept. Status and duration are what this instance
+ * answered at the time, for reference.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CapturedRequest(
+        long at,
+        String method,
+        String path,
+        String accept,
+        String prefer,
+        String contentType,
+        String body,
+        int status,
+        long durationMicros) {}
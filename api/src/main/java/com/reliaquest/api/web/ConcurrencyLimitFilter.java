@@ -0,0 +1,104 @@
+package com.reliaquest.api.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admits requests through an {@link AdaptiveConcurrencyLimit} and sheds the rest with 503 and Retry-After before
+ * they reach a controller. Streaming responses hold their slot until the async request completes, but their
+ * duration is not fed back as a latency sample.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit limit, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.retryAfter = retryAfter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestPriority priority = RequestPriority.of(request);
+        if (!limit.tryAcquire(priority)) {
+            meterRegistry.counter("employee.inbound.rejected", "priority", priority.name()).increment();
+            log.debug("Shedding {} {} at concurrency limit {}", request.getMethod(), request.getRequestURI(),
+                    (int) limit.getLimit());
+            reject(response);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(released));
+            } else if (released.compareAndSet(false, true)) {
+                limit.onSample(System.nanoTime() - start);
+                limit.release();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":503,\"message\":\"Server is at capacity, retry later\"}");
+    }
+
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        private final AtomicBoolean released;
+
+        private ReleaseOnCompletion(AtomicBoolean released) {
+            this.released = released;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Matches requests carrying a {@link RequirePreference} preference. A mapping with this condition is preferred
+ * over the same mapping without one, so the plain mapping serves every request that does not state it.
+ */
+public class PreferenceRequestCondition implements RequestCondition<PreferenceRequestCondition> {
+
+    private final String preference;
+
+    public PreferenceRequestCondition(String preference) {
+        this.preference = preference;
+    }
+
+    /*
+     * Only used on methods, so there is never a type-level condition to combine with.
+     */
+    @Override
+    public PreferenceRequestCondition combine(PreferenceRequestCondition other) {
+        return other;
+    }
+
+    @Override
+    public PreferenceRequestCondition getMatchingCondition(HttpServletRequest request) {
+        return CorsUtils.isPreFlightRequest(request) || Preferences.contains(request, preference) ? this : null;
+    }
+
+    @Override
+    public int compareTo(PreferenceRequestCondition other, HttpServletRequest request) {
+        return 0;
+    }
+
+    /**
+     * A handler mapping that turns {@link RequirePreference} into this condition.
+     */
+    public static RequestMappingHandlerMapping handlerMapping() {
+        return new RequestMappingHandlerMapping() {
+            @Override
+            protected RequestCondition<?> getCustomMethodCondition(Method method) {
+                RequirePreference required = AnnotatedElementUtils.findMergedAnnotation(method, RequirePreference.class);
+                return required != null ? new PreferenceRequestCondition(required.value()) : null;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "Prefer=" + preference;
+    }
+}
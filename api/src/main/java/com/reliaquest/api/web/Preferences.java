@@ -0,0 +1,39 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Enumeration;
+
+/**
+ * Reads RFC 7240 {@code Prefer} headers. A request may state several preferences, comma separated or in repeated
+ * headers, each with an optional value and parameters, e.g. {@code Prefer: respond-async, wait=10}. Preference
+ * names are case-insensitive.
+ */
+public final class Preferences {
+
+    public static final String HEADER = "Prefer";
+
+    private Preferences() {}
+
+    public static boolean contains(HttpServletRequest request, String preference) {
+        Enumeration<String> headers = request.getHeaders(HEADER);
+        if (headers == null) {
+            return false;
+        }
+        while (headers.hasMoreElements()) {
+            if (contains(headers.nextElement(), preference)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean contains(String header, String preference) {
+        for (String entry : header.split(",")) {
+            String name = entry.split("[;=]", 2)[0].trim();
+            if (name.equalsIgnoreCase(preference)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
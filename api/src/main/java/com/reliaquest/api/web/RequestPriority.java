@@ -0,0 +1,52 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.UUID;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+/**
+ * How readily a request is admitted under load, by route. Roster reads (list, search, top earners, statistics) are
+ * answered from the roster cache and are cheap; by-id lookups go upstream, batched, and streams hold an upstream
+ * connection for their whole duration; writes always go upstream.
+ */
+public enum RequestPriority {
+    HIGH,
+    NORMAL,
+    LOW;
+
+    private static final String EMPLOYEES = "/api/v1/employee/";
+
+    static RequestPriority of(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return LOW;
+        }
+        String accept = request.getHeader("Accept");
+        if (accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+            return NORMAL;
+        }
+        if (isLookupById(request.getRequestURI().substring(request.getContextPath().length()))) {
+            return NORMAL;
+        }
+        return HIGH;
+    }
+
+    /*
+     * GET /{id} only matches UUIDs; every other single-segment route under the employee API is a roster read.
+     */
+    private static boolean isLookupById(String path) {
+        if (!path.startsWith(EMPLOYEES)) {
+            return false;
+        }
+        String segment = path.substring(EMPLOYEES.length());
+        if (segment.isEmpty() || segment.contains("/")) {
+            return false;
+        }
+        try {
+            UUID.fromString(segment);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
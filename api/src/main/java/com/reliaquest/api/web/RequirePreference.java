@@ -0,0 +1,19 @@
+package com.reliaquest.api.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Narrows a handler method to requests that state the given preference in their {@code Prefer} header, among any
+ * others. Requests without it fall through to a mapping of the same route that lacks this annotation.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequirePreference {
+
+    String value();
+}
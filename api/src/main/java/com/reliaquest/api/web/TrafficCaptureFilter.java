@@ -0,0 +1,54 @@
+package com.reliaquest.api.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+/**
+ * Records each request to a {@link TrafficCaptureLog} after it has been answered. Bodies are kept from what the
+ * controller actually read, up to the configured size. For streamed responses the status and duration recorded
+ * are those at the end of the initial dispatch.
+ */
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private final TrafficCaptureLog captureLog;
+    private final int maxBodySize;
+
+    public TrafficCaptureFilter(TrafficCaptureLog captureLog, int maxBodySize) {
+        this.captureLog = captureLog;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingRequestWrapper caching = new ContentCachingRequestWrapper(request, maxBodySize);
+        long at = System.currentTimeMillis();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(caching, response);
+        } finally {
+            byte[] body = caching.getContentAsByteArray();
+            String path = request.getQueryString() == null
+                    ? request.getRequestURI()
+                    : request.getRequestURI() + "?" + request.getQueryString();
+            captureLog.record(new CapturedRequest(
+                    at,
+                    request.getMethod(),
+                    path,
+                    request.getHeader(HttpHeaders.ACCEPT),
+                    request.getHeader("Prefer"),
+                    body.length == 0 ? null : request.getContentType(),
+                    body.length == 0 ? null : new String(body, StandardCharsets.UTF_8),
+                    response.getStatus(),
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+        }
+    }
+}
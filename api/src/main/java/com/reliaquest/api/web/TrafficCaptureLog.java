@@ -0,0 +1,84 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.config.TrafficCaptureProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Appends captured requests to an NDJSON file from a single background thread, so request threads only pay for
+ * an offer to a bounded queue.
+ */
+@Slf4j
+public class TrafficCaptureLog implements DisposableBean {
+
+    private final BlockingQueue<CapturedRequest> queue;
+    private final ObjectWriter writer;
+    private final BufferedWriter out;
+    private final Counter dropped;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    public TrafficCaptureLog(TrafficCaptureProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry)
+            throws IOException {
+        Path path = Path.of(properties.getPath());
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writer = objectMapper.writerFor(CapturedRequest.class);
+        this.out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        this.dropped = meterRegistry.counter("employee.capture.dropped");
+        this.thread = new Thread(this::drain, "traffic-capture");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        log.warn("Capturing employee API traffic, including request bodies, to {}", path.toAbsolutePath());
+    }
+
+    public void record(CapturedRequest request) {
+        if (!queue.offer(request)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException, IOException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        out.close();
+    }
+
+    /*
+     * Flushes whenever the queue runs dry, so a capture is complete on disk shortly after traffic stops.
+     */
+    private void drain() {
+        try {
+            while (running || !queue.isEmpty()) {
+                CapturedRequest request = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (request == null) {
+                    out.flush();
+                    continue;
+                }
+                out.write(writer.writeValueAsString(request));
+                out.newLine();
+            }
+            out.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Traffic capture stopped", new UncheckedIOException(e));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreEncodedRosterConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PreEncodedRosterConverter converter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        converter = new PreEncodedRosterConverter(objectMapper);
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void encoded_ShouldReuseBytesUntilVersionChanges() {
+        List<Employee> employees = employees(1);
+
+        byte[] first = converter.encoded(new VersionedList<>("roster", 1, employees)).identity();
+        byte[] second = converter.encoded(new VersionedList<>("roster", 1, employees)).identity();
+        byte[] third = converter.encoded(new VersionedList<>("roster", 2, employees)).identity();
+
+        assertSame(first, second);
+        assertNotSame(first, third);
+    }
+
+    @Test
+    void write_ShouldMatchJackson() throws IOException {
+        VersionedList<Employee> roster = new VersionedList<>("roster", 1, employees(2));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(roster, MediaType.APPLICATION_JSON, output);
+
+        assertEquals(objectMapper.writeValueAsString(roster), output.getBodyAsString());
+        assertNull(output.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void write_ShouldSendGzip_WhenAcceptedAndLargeEnough() throws IOException {
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        VersionedList<Employee> roster = new VersionedList<>("roster", 1, employees(50));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(roster, MediaType.APPLICATION_JSON, output);
+
+        assertEquals("gzip", output.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(output.getBodyAsBytes()))) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(roster), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void write_ShouldSendIdentity_WhenGzipIsRefused() throws IOException {
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate");
+        VersionedList<Employee> roster = new VersionedList<>("roster", 1, employees(50));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(roster, MediaType.APPLICATION_JSON, output);
+
+        assertNull(output.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, output.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals(objectMapper.writeValueAsString(roster), output.getBodyAsString());
+    }
+
+    @Test
+    void canWrite_ShouldIgnorePlainLists() {
+        assertFalse(converter.canWrite(List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(VersionedList.class, MediaType.APPLICATION_JSON));
+    }
+
+    private static List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Employee(
+                        UUID.randomUUID().toString(), "Employee " + i, 50000 + i, 30, "Developer", i + "@company.com"))
+                .toList();
+    }
+}
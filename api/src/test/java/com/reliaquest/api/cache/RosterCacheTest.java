@@ -0,0 +1,212 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RosterCacheTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    private MutableClock clock;
+    private RosterCache rosterCache;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        RosterCacheProperties properties = new RosterCacheProperties();
+        properties.setTtl(Duration.ofSeconds(5));
+        properties.setStaleWhileRevalidate(Duration.ofSeconds(10));
+        properties.setStaleIfError(Duration.ofSeconds(60));
+
+        clock = new MutableClock();
+        rosterCache = new RosterCache(employeeClient, properties, clock, Runnable::run);
+        employee = new Employee(UUID.randomUUID().toString(), "John Doe", 50000, 30, "Developer", "john@company.com");
+    }
+
+    @Test
+    void get_ShouldServeFromMemory_WithinTtl() {
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(employee));
+
+        rosterCache.get();
+        clock.advance(Duration.ofSeconds(5));
+        Roster roster = rosterCache.get();
+
+        assertEquals(List.of(employee), roster.employees());
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void get_ShouldServeStaleAndRevalidate_WithinStaleWhileRevalidate() {
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(employee), List.of());
+
+        Roster first = rosterCache.get();
+        clock.advance(Duration.ofSeconds(12));
+        Roster served = rosterCache.get();
+
+        assertSame(first, served);
+        assertTrue(rosterCache.get().employees().isEmpty());
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void get_ShouldServeStale_WhenUpstreamFailsWithinStaleIfError() {
+        when(employeeClient.getAllEmployees())
+                .thenReturn(List.of(employee))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        Roster first = rosterCache.get();
+        clock.advance(Duration.ofSeconds(30));
+
+        assertSame(first, rosterCache.get());
+    }
+
+    @Test
+    void get_ShouldRethrow_WhenUpstreamFailsBeyondStaleIfError() {
+        when(employeeClient.getAllEmployees())
+                .thenReturn(List.of(employee))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        rosterCache.get();
+        clock.advance(Duration.ofSeconds(120));
+
+        assertThrows(ResourceAccessException.class, () -> rosterCache.get());
+    }
+
+    @Test
+    void get_ShouldRethrow_WhenUpstreamAnswersWithClientError() {
+        when(employeeClient.getAllEmployees())
+                .thenReturn(List.of(employee))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.BAD_REQUEST, "Bad Request", new HttpHeaders(), null, null));
+
+        rosterCache.get();
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThrows(HttpClientErrorException.BadRequest.class, () -> rosterCache.get());
+    }
+
+    @Test
+    void get_ShouldShareOneFetch_WhenColdCallersArriveTogether() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeClient.getAllEmployees()).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await();
+            return List.of(employee);
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Roster> first = callers.submit(() -> rosterCache.get());
+            fetching.await();
+            Future<Roster> second = callers.submit(() -> rosterCache.get());
+            Thread.sleep(100);
+            release.countDown();
+
+            assertSame(first.get(), second.get());
+            verify(employeeClient, times(1)).getAllEmployees();
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void putAndEvict_ShouldPatchRosterAndBumpVersion() {
+        when(employeeClient.getAllEmployees()).thenReturn(List.of());
+        Employee created = new Employee(UUID.randomUUID().toString(), "Jane Smith", 60000, 35, "Manager", "jane@company.com");
+
+        long version = rosterCache.get().version();
+        rosterCache.put(created);
+        assertEquals(List.of(created), rosterCache.get().employees());
+        rosterCache.evict(created.getId());
+
+        Roster roster = rosterCache.get();
+        assertTrue(roster.employees().isEmpty());
+        assertEquals(version + 2, roster.version());
+    }
+
+    @Test
+    void findIfError_ShouldReturnCachedEmployee_WithinStaleIfError() {
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(employee));
+
+        rosterCache.get();
+        clock.advance(Duration.ofSeconds(30));
+
+        assertEquals(employee, rosterCache.findIfError(employee.getId()).orElseThrow());
+        clock.advance(Duration.ofSeconds(60));
+        assertTrue(rosterCache.findIfError(employee.getId()).isEmpty());
+    }
+
+    @Test
+    void get_ShouldServeRestoredSnapshot_UntilFirstSuccessfulRefresh() {
+        when(employeeClient.getAllEmployees())
+                .thenThrow(new ResourceAccessException("Connection refused"))
+                .thenReturn(List.of());
+        Roster snapshot = new Roster(List.of(employee), 1, clock.instant().minus(Duration.ofHours(1)));
+
+        assertTrue(rosterCache.restore(snapshot));
+        assertSame(snapshot, rosterCache.get());
+        clock.advance(Duration.ofSeconds(5));
+        assertSame(snapshot, rosterCache.get());
+
+        Roster refreshed = rosterCache.get();
+        assertTrue(refreshed.employees().isEmpty());
+        assertEquals(2, refreshed.version());
+        assertFalse(rosterCache.restore(snapshot));
+    }
+
+    @Test
+    void get_ShouldRevalidateRestoredSnapshotAtMostOncePerInterval() {
+        when(employeeClient.getAllEmployees()).thenThrow(new ResourceAccessException("Connection refused"));
+        rosterCache.restore(new Roster(List.of(employee), 1, clock.instant().minus(Duration.ofHours(1))));
+
+        for (int i = 0; i < 10; i++) {
+            rosterCache.get();
+        }
+        verify(employeeClient, times(1)).getAllEmployees();
+
+        clock.advance(Duration.ofSeconds(5));
+        rosterCache.get();
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_ShouldKeepWrites_ThatLandDuringTheFetch() {
+        Employee created = new Employee(UUID.randomUUID().toString(), "Jane Smith", 60000, 35, "Manager", "jane@company.com");
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(employee)).thenAnswer(invocation -> {
+            rosterCache.put(created);
+            rosterCache.evict(employee.getId());
+            return List.of(employee);
+        }).thenReturn(List.of(employee));
+        rosterCache.get();
+
+        Roster refreshed = rosterCache.refresh();
+
+        assertEquals(List.of(created), refreshed.employees());
+        assertSame(refreshed, rosterCache.current().orElseThrow());
+        assertEquals(List.of(employee), rosterCache.refresh().employees());
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.PeerInvalidationProperties;
+import com.reliaquest.api.model.Employee;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RosterPeersTest {
+
+    @Mock
+    private RosterCache rosterCache;
+
+    private RosterPeers rosterPeers;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        PeerInvalidationProperties properties = new PeerInvalidationProperties();
+        properties.setNodeId("self");
+        properties.setEnabled(true);
+        properties.setSecret("s3cret");
+        rosterPeers = new RosterPeers(rosterCache, properties, new SimpleMeterRegistry());
+        employee = new Employee(UUID.randomUUID().toString(), "John Doe", 50000, 30, "Developer", "john@company.com");
+    }
+
+    @Test
+    void receive_ShouldPatchLocalCache() {
+        rosterPeers.receive(RosterInvalidation.put("peer", 1, employee));
+        rosterPeers.receive(RosterInvalidation.evict("peer", 2, employee.getId()));
+
+        verify(rosterCache).put(employee);
+        verify(rosterCache).evict(employee.getId());
+        verify(rosterCache, never()).revalidate();
+    }
+
+    @Test
+    void receive_ShouldIgnoreDuplicatesAndOwnMessages() {
+        rosterPeers.receive(RosterInvalidation.put("peer", 1, employee));
+        rosterPeers.receive(RosterInvalidation.put("peer", 1, employee));
+        rosterPeers.receive(RosterInvalidation.evict("self", 1, employee.getId()));
+
+        verify(rosterCache, times(1)).put(employee);
+        verify(rosterCache, never()).evict(any());
+    }
+
+    @Test
+    void receive_ShouldRevalidate_WhenSequenceHasGap() {
+        rosterPeers.receive(RosterInvalidation.put("peer", 1, employee));
+        rosterPeers.receive(RosterInvalidation.evict("peer", 4, employee.getId()));
+
+        verify(rosterCache).evict(employee.getId());
+        verify(rosterCache).revalidate();
+    }
+
+    @Test
+    void receive_ShouldIgnoreMessages_WhenPeersDisabled() {
+        PeerInvalidationProperties disabled = new PeerInvalidationProperties();
+        rosterPeers = new RosterPeers(rosterCache, disabled, new SimpleMeterRegistry());
+
+        rosterPeers.receive(RosterInvalidation.put("peer", 1, employee));
+
+        assertFalse(rosterPeers.isPeer(disabled.getSecret()));
+        verifyNoInteractions(rosterCache);
+    }
+
+    @Test
+    void isPeer_ShouldRequireMatchingSecret() {
+        assertTrue(rosterPeers.isPeer("s3cret"));
+        assertFalse(rosterPeers.isPeer("s3cre"));
+        assertFalse(rosterPeers.isPeer(null));
+    }
+
+    @Test
+    void constructor_ShouldRequireSecret_WhenEnabled() {
+        PeerInvalidationProperties properties = new PeerInvalidationProperties();
+        properties.setEnabled(true);
+
+        assertThrows(IllegalStateException.class,
+                () -> new RosterPeers(rosterCache, properties, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void put_ShouldPatchLocalCache_WhenPeersDisabled() {
+        rosterPeers = new RosterPeers(rosterCache, new PeerInvalidationProperties(), new SimpleMeterRegistry());
+
+        rosterPeers.put(employee);
+
+        verify(rosterCache).put(employee);
+    }
+
+    @Test
+    void put_ShouldSendSequencesInOrder_WhenWritersRace() throws Exception {
+        int writers = 8;
+        int writesPerWriter = 250;
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch delivered = new CountDownLatch(writers * writesPerWriter);
+        HttpServer peer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        peer.createContext(RosterPeers.PATH, exchange -> {
+            received.add(objectMapper.readTree(exchange.getRequestBody()).get("sequence").asLong());
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+            delivered.countDown();
+        });
+        peer.start();
+        PeerInvalidationProperties properties = new PeerInvalidationProperties();
+        properties.setNodeId("self");
+        properties.setEnabled(true);
+        properties.setSecret("s3cret");
+        properties.setQueueCapacity(writers * writesPerWriter);
+        properties.getUrls().add("http://localhost:" + peer.getAddress().getPort());
+        rosterPeers = new RosterPeers(rosterCache, properties, new SimpleMeterRegistry());
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            for (int w = 0; w < writers; w++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < writesPerWriter; i++) {
+                        if (i % 2 == 0) {
+                            rosterPeers.put(employee);
+                        } else {
+                            rosterPeers.evict(employee.getId());
+                        }
+                    }
+                });
+            }
+            start.countDown();
+
+            assertTrue(delivered.await(30, TimeUnit.SECONDS));
+            assertEquals(LongStream.rangeClosed(1, writers * writesPerWriter).boxed().toList(), received);
+        } finally {
+            pool.shutdownNow();
+            rosterPeers.destroy();
+            peer.stop(0);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RosterSnapshotTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void read_ShouldReturnWhatWasWritten() throws IOException {
+        Path path = tempDir.resolve("roster.snapshot");
+        Instant fetchedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Employee> employees = List.of(
+                new Employee(UUID.randomUUID().toString(), "Zoë Ångström", 50000, 30, "Developer", "zoe@company.com"),
+                new Employee(UUID.randomUUID().toString(), "No Email", 60000, 40, null, null));
+
+        RosterSnapshot.write(path, new Roster(employees, 7, fetchedAt));
+        Roster restored = RosterSnapshot.read(path).orElseThrow();
+
+        assertEquals(employees, restored.employees());
+        assertEquals(fetchedAt, restored.fetchedAt());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(path), files.toList());
+        }
+    }
+
+    @Test
+    void read_ShouldRejectCorruptedPayload() throws IOException {
+        Path path = tempDir.resolve("roster.snapshot");
+        RosterSnapshot.write(path, new Roster(
+                List.of(new Employee(UUID.randomUUID().toString(), "John Doe", 50000, 30, "Developer", null)),
+                1,
+                Instant.now()));
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            int last = file.read();
+            file.seek(file.length() - 1);
+            file.write(last ^ 0xff);
+        }
+
+        assertTrue(RosterSnapshot.read(path).isEmpty());
+    }
+
+    @Test
+    void read_ShouldReturnEmpty_WhenNoSnapshotExists() {
+        assertTrue(RosterSnapshot.read(tempDir.resolve("missing.snapshot")).isEmpty());
+    }
+
+    @Test
+    void write_ShouldCreateOwnerOnlyDirectory() throws IOException {
+        assumeTrue(isPosix());
+        Path path = tempDir.resolve("employee-api").resolve("roster.snapshot");
+
+        RosterSnapshot.write(path, roster());
+
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(path.getParent())));
+        assertTrue(RosterSnapshot.read(path).isPresent());
+    }
+
+    @Test
+    void read_ShouldRejectSnapshot_WhenOtherUsersCanWriteIt() throws IOException {
+        assumeTrue(isPosix());
+        Path path = tempDir.resolve("roster.snapshot");
+        RosterSnapshot.write(path, roster());
+
+        Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-rw-rw-"));
+
+        assertTrue(RosterSnapshot.read(path).isEmpty());
+    }
+
+    @Test
+    void read_ShouldRejectSnapshot_WhenOtherUsersCanWriteItsDirectory() throws IOException {
+        assumeTrue(isPosix());
+        Path path = tempDir.resolve("shared").resolve("roster.snapshot");
+        RosterSnapshot.write(path, roster());
+
+        Files.setPosixFilePermissions(path.getParent(), PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        assertTrue(RosterSnapshot.read(path).isEmpty());
+    }
+
+    @Test
+    void read_ShouldRejectSymbolicLink() throws IOException {
+        assumeTrue(isPosix());
+        Path target = tempDir.resolve("roster.snapshot");
+        RosterSnapshot.write(target, roster());
+        Path link = Files.createSymbolicLink(tempDir.resolve("link.snapshot"), target);
+
+        assertTrue(RosterSnapshot.read(link).isEmpty());
+    }
+
+    private static Roster roster() {
+        return new Roster(
+                List.of(new Employee(UUID.randomUUID().toString(), "John Doe", 50000, 30, "Developer", null)),
+                1,
+                Instant.now());
+    }
+
+    private static boolean isPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.config.EmployeeClientProperties.CircuitBreakerProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofSeconds(3);
+
+    private MutableClock clock;
+    private CircuitBreaker circuitBreaker;
+    private List<String> transitions;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.setWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setSlowCallRateThreshold(75);
+        properties.setSlowCallDuration(Duration.ofSeconds(2));
+        properties.setWaitInOpenState(Duration.ofSeconds(30));
+        properties.setPermittedCallsInHalfOpenState(2);
+
+        clock = new MutableClock();
+        transitions = new ArrayList<>();
+        circuitBreaker = new CircuitBreaker(properties, clock, (from, to) -> transitions.add(from + "->" + to));
+    }
+
+    @Test
+    void shouldStayClosed_BelowFailureRateThreshold() {
+        record(false, FAST, 3);
+        record(true, FAST, 1);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertDoesNotThrow(() -> circuitBreaker.acquirePermission());
+    }
+
+    @Test
+    void shouldOpen_WhenFailureRateReachesThreshold() {
+        record(false, FAST, 2);
+        record(true, FAST, 2);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(UpstreamUnavailableException.class, () -> circuitBreaker.acquirePermission());
+        assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void shouldOpen_WhenSlowCallRateReachesThreshold() {
+        record(false, FAST, 1);
+        record(false, SLOW, 3);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldClose_AfterSuccessfulHalfOpenTrials() {
+        record(true, FAST, 4);
+        clock.advance(Duration.ofSeconds(31));
+
+        record(false, FAST, 2);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    void shouldReopen_WhenHalfOpenTrialsFail() {
+        record(true, FAST, 4);
+        clock.advance(Duration.ofSeconds(31));
+
+        record(true, FAST, 2);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldLimitCalls_InHalfOpenState() {
+        record(true, FAST, 4);
+        clock.advance(Duration.ofSeconds(31));
+
+        circuitBreaker.acquirePermission();
+        circuitBreaker.acquirePermission();
+
+        assertThrows(UpstreamUnavailableException.class, () -> circuitBreaker.acquirePermission());
+    }
+
+    private void record(boolean failure, Duration elapsed, int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onResult(elapsed, failure);
+        }
+    }
+}
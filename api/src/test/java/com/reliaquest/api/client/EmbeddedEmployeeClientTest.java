@@ -0,0 +1,29 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmbeddedTransportProperties;
+import com.reliaquest.api.config.EmployeeClientProperties;
+
+import java.time.Duration;
+
+class EmbeddedEmployeeClientTest extends EmployeeClientContractTest {
+
+    @Override
+    protected String start(Integer rateLimit) {
+        return "embedded";
+    }
+
+    @Override
+    protected EmployeeTransport transport(Integer rateLimit) {
+        EmbeddedTransportProperties embedded = new EmbeddedTransportProperties();
+        embedded.setEmployees(ROSTER_SIZE);
+        if (rateLimit != null) {
+            embedded.setRateLimit(true);
+            embedded.setRateLimitRequests(rateLimit);
+            embedded.setRateLimitBackoff(Duration.ofMinutes(1));
+        }
+        return new EmbeddedEmployeeTransport(new EmployeeClientProperties(), embedded);
+    }
+
+    @Override
+    protected void stopAll() {}
+}
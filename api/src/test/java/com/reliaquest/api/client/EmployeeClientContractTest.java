@@ -0,0 +1,177 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.config.RosterCacheProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour of {@link EmployeeClient} and {@link RosterCache} that must not depend on the {@link EmployeeTransport}
+ * underneath, run once per implementation through the real pool, guard and retry stack.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class EmployeeClientContractTest {
+
+    protected static final int ROSTER_SIZE = 20;
+
+    private final List<EmployeeClient> clients = new ArrayList<>();
+    private EmployeeClient client;
+
+    /*
+     * Starts an upstream with a roster of ROSTER_SIZE; rateLimit is the number of requests admitted before the
+     * backoff, or null for no limit. Returns the base url the client should be configured with.
+     */
+    protected abstract String start(Integer rateLimit);
+
+    protected abstract EmployeeTransport transport(Integer rateLimit);
+
+    protected abstract void stopAll();
+
+    @BeforeAll
+    void startUpstream() {
+        client = client(null);
+    }
+
+    @AfterAll
+    void stopUpstreams() {
+        clients.forEach(EmployeeClient::destroy);
+        stopAll();
+    }
+
+    @Test
+    void getAllEmployees_ShouldReturnGeneratedRoster() {
+        List<Employee> roster = client.getAllEmployees();
+
+        assertEquals(ROSTER_SIZE, roster.size());
+        assertEquals(ROSTER_SIZE, ids(roster).size());
+        roster.forEach(employee -> {
+            assertNotNull(employee.getName());
+            assertNotNull(employee.getTitle());
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000, employee.toString());
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70, employee.toString());
+            assertTrue(employee.getEmail().endsWith("@company.com"), employee.toString());
+        });
+    }
+
+    @Test
+    void streamAllEmployees_ShouldProduceSameEmployeesAsGetAll() {
+        List<Employee> streamed = new ArrayList<>();
+        client.streamAllEmployees(streamed::add);
+
+        assertEquals(client.getAllEmployees(), streamed);
+    }
+
+    @Test
+    void getEmployeeById_ShouldFindExistingAndReturnEmptyOtherwise() {
+        Employee existing = client.getAllEmployees().get(0);
+
+        assertEquals(existing, client.getEmployeeById(existing.getId()).orElseThrow());
+        assertTrue(client.getEmployeeById(UUID.randomUUID().toString()).isEmpty());
+    }
+
+    @Test
+    void getEmployeesByIds_ShouldSkipUnknownIds() {
+        List<Employee> roster = client.getAllEmployees();
+        List<String> wanted = List.of(roster.get(0).getId(), roster.get(1).getId(), UUID.randomUUID().toString());
+
+        assertEquals(Set.of(roster.get(0).getId(), roster.get(1).getId()), ids(client.getEmployeesByIds(wanted)));
+    }
+
+    @Test
+    void createEmployee_ShouldBeVisibleToReadsUntilDeleted() {
+        Employee created = client.createEmployee(request("Created " + UUID.randomUUID()));
+
+        assertNotNull(created.getId());
+        assertEquals(75000, created.getSalary());
+        assertEquals(created, client.getEmployeeById(created.getId()).orElseThrow());
+        assertTrue(client.getAllEmployees().contains(created));
+
+        assertTrue(client.deleteById(created.getId()));
+        assertEquals(ROSTER_SIZE, client.getAllEmployees().size());
+    }
+
+    @Test
+    void deleteById_ShouldRemoveOnceAndThenReportFalse() {
+        Employee created = client.createEmployee(request("Deleted " + UUID.randomUUID()));
+
+        assertTrue(client.deleteById(created.getId()));
+        assertFalse(client.deleteById(created.getId()));
+        assertTrue(client.getEmployeeById(created.getId()).isEmpty());
+        assertFalse(client.deleteById(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void rosterCache_ShouldServeClientRoster() {
+        RosterCache cache = new RosterCache(client, new RosterCacheProperties());
+
+        assertEquals(ids(client.getAllEmployees()), ids(cache.getEmployees()));
+        assertEquals(ROSTER_SIZE, cache.get().employees().size());
+    }
+
+    @Test
+    void rateLimit_ShouldRaiseTooManyRequestsAndLockOutOnceExhausted() {
+        EmployeeClientProperties properties = properties(start(3));
+        UpstreamPool upstreams = new UpstreamPool(properties, new SimpleMeterRegistry());
+        EmployeeClient limited = client(properties, upstreams, transport(3));
+
+        List<Employee> roster = limited.getAllEmployees();
+        for (int i = 0; i < 2; i++) {
+            assertEquals(ROSTER_SIZE, limited.getAllEmployees().size());
+        }
+        assertThrows(HttpClientErrorException.TooManyRequests.class, limited::getAllEmployees);
+        assertTrue(upstreams.isLockedOut());
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class, () -> limited.deleteById(roster.get(0).getId()));
+    }
+
+    private EmployeeClient client(Integer rateLimit) {
+        EmployeeClientProperties properties = properties(start(rateLimit));
+        return client(properties, new UpstreamPool(properties, new SimpleMeterRegistry()), transport(rateLimit));
+    }
+
+    private EmployeeClient client(
+            EmployeeClientProperties properties, UpstreamPool upstreams, EmployeeTransport transport) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeClient created = new EmployeeClient(
+                upstreams,
+                transport,
+                new UpstreamGuard(properties, meterRegistry),
+                new IdempotentReadExecutor(properties, upstreams, meterRegistry));
+        clients.add(created);
+        return created;
+    }
+
+    private static EmployeeClientProperties properties(String baseUrl) {
+        EmployeeClientProperties properties = new EmployeeClientProperties();
+        properties.setBaseUrl(baseUrl);
+        return properties;
+    }
+
+    private static EmployeeCreateRequest request(String name) {
+        EmployeeCreateRequest request = new EmployeeCreateRequest();
+        request.setName(name);
+        request.setTitle("Engineer");
+        request.setSalary(75000);
+        request.setAge(30);
+        return request;
+    }
+
+    private static Set<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.server.ServerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the client contract against real mock server instances on random ports. The server's own
+ * application.yml is not loaded, so only the properties given here apply.
+ */
+class HttpEmployeeClientTest extends EmployeeClientContractTest {
+
+    private final List<ConfigurableApplicationContext> servers = new ArrayList<>();
+
+    @Override
+    protected String start(Integer rateLimit) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.name=transport-contract-test",
+                "--server.port=0",
+                "--mock.employees.max=" + ROSTER_SIZE,
+                "--mock.faults.rate-limit.enabled=" + (rateLimit != null)));
+        if (rateLimit != null) {
+            args.add("--mock.faults.rate-limit.limit=" + rateLimit);
+            args.add("--mock.faults.rate-limit.backoff=1m");
+        }
+        ConfigurableApplicationContext server =
+                new SpringApplicationBuilder(ServerApplication.class).run(args.toArray(String[]::new));
+        servers.add(server);
+        return "http://localhost:" + server.getEnvironment().getProperty("local.server.port") + "/api/v1/employee";
+    }
+
+    @Override
+    protected EmployeeTransport transport(Integer rateLimit) {
+        return new HttpEmployeeTransport(new EmployeeClientProperties(), new ObjectMapper());
+    }
+
+    @Override
+    protected void stopAll() {
+        servers.forEach(ConfigurableApplicationContext::close);
+    }
+}
@@ -0,0 +1,255 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotentReadExecutorTest {
+
+    private EmployeeClientProperties properties;
+    private UpstreamRateLimitTracker rateLimits;
+    private IdempotentReadExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeClientProperties();
+        properties.getRetry().setMaxAttempts(3);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(5));
+        rateLimits = new UpstreamRateLimitTracker();
+        executor = new IdempotentReadExecutor(properties, rateLimits, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void execute_ShouldRetryConnectionFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(UpstreamOperation.GET, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ResourceAccessException("Connection reset");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldGiveUp_AfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ResourceAccessException.class, () -> executor.execute(UpstreamOperation.GET, () -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Connection reset");
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_WhenCircuitOpen() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(UpstreamUnavailableException.class, () -> executor.execute(UpstreamOperation.LIST, () -> {
+            attempts.incrementAndGet();
+            throw new UpstreamUnavailableException("Upstream circuit breaker is open");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_RateLimitedRequestDuringLockout() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> executor.execute(UpstreamOperation.LIST, () -> {
+            attempts.incrementAndGet();
+            rateLimits.onRateLimited(HttpHeaders.EMPTY);
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", HttpHeaders.EMPTY, new byte[0], null);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldRetryRateLimitedRequestWithJitter_WhenNoRetryAfterAndNotLockedOut() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(UpstreamOperation.LIST, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "", HttpHeaders.EMPTY, new byte[0], null);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldRetryRateLimitedRequest_AfterShortRetryAfter() {
+        properties.getRetry().setMaxBackoff(Duration.ofSeconds(2));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String result = executor.execute(UpstreamOperation.LIST, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                rateLimits.onRateLimited(headers);
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", headers, new byte[0], null);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) >= 0);
+    }
+
+    @Test
+    void execute_ShouldNotRetryRateLimitedRequest_WhenRetryAfterExceedsMaxBackoff() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> executor.execute(UpstreamOperation.LIST, () -> {
+            attempts.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", headers, new byte[0], null);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldUseFasterHedge_AndCancelSlowPrimary() {
+        IdempotentReadExecutor hedging = hedgingExecutor();
+        try {
+            CountDownLatch primaryCancelled = new CountDownLatch(1);
+            AtomicInteger attempts = new AtomicInteger();
+            long start = System.nanoTime();
+
+            String result = hedging.execute(UpstreamOperation.GET, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        primaryCancelled.countDown();
+                        throw new UpstreamUnavailableException("Interrupted");
+                    }
+                    return "primary";
+                }
+                return "hedge";
+            });
+
+            assertEquals("hedge", result);
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+            assertTrue(await(primaryCancelled));
+        } finally {
+            hedging.destroy();
+        }
+    }
+
+    @Test
+    void execute_ShouldFallBackToHedge_WhenPrimaryFailsAfterHedgeStarted() {
+        IdempotentReadExecutor hedging = hedgingExecutor();
+        try {
+            AtomicInteger attempts = new AtomicInteger();
+            CountDownLatch hedgeStarted = new CountDownLatch(1);
+
+            String result = hedging.execute(UpstreamOperation.GET, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    await(hedgeStarted);
+                    throw new ResourceAccessException("Read timed out");
+                }
+                hedgeStarted.countDown();
+                sleep(50);
+                return "hedge";
+            });
+
+            assertEquals("hedge", result);
+            assertEquals(2, attempts.get());
+        } finally {
+            hedging.destroy();
+        }
+    }
+
+    @Test
+    void execute_ShouldUsePrimary_WhenItAnswersBeforeHedgeDelay() {
+        IdempotentReadExecutor hedging = hedgingExecutor();
+        try {
+            AtomicInteger attempts = new AtomicInteger();
+
+            assertEquals("primary", hedging.execute(UpstreamOperation.GET, () -> {
+                attempts.incrementAndGet();
+                return "primary";
+            }));
+            sleep(100);
+            assertEquals(1, attempts.get());
+        } finally {
+            hedging.destroy();
+        }
+    }
+
+    /*
+     * Warmed past LatencyWindow's minimum sample count with instant answers, so the hedge delay is minDelay.
+     */
+    private IdempotentReadExecutor hedgingExecutor() {
+        properties.getRetry().setMaxAttempts(1);
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setMinDelay(Duration.ofMillis(20));
+        IdempotentReadExecutor hedging = new IdempotentReadExecutor(properties, rateLimits, new SimpleMeterRegistry());
+        for (int i = 0; i < 50; i++) {
+            hedging.execute(UpstreamOperation.GET, () -> "warm");
+        }
+        return hedging;
+    }
+
+    @Test
+    void execute_ShouldStopRetrying_WhenBudgetExhausted() {
+        properties.getRetry().setBudgetCapacity(1);
+        properties.getRetry().setBudgetRatio(0);
+        IdempotentReadExecutor limited = new IdempotentReadExecutor(properties, rateLimits, new SimpleMeterRegistry());
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ResourceAccessException.class, () -> limited.execute(UpstreamOperation.GET, () -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Connection reset");
+        }));
+        assertEquals(2, attempts.get());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.MutableClock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaSetTest {
+
+    private MutableClock clock;
+    private Upstream primary;
+    private Upstream replica;
+    private ReplicaSet replicaSet;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        primary = new Upstream("http://primary", "http://primary", 2, Duration.ofSeconds(10), clock);
+        replica = new Upstream("http://replica", "http://primary", 2, Duration.ofSeconds(10), clock);
+        replicaSet = new ReplicaSet(primary, List.of(replica), Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    void members_ShouldListPrimaryFirst() {
+        assertSame(primary, replicaSet.primary());
+        assertEquals(List.of(primary, replica), replicaSet.members());
+    }
+
+    @Test
+    void forRead_ShouldUseBothMembers_WhenAllAvailable() {
+        assertEquals(Set.of(primary, replica), reads(100));
+    }
+
+    @Test
+    void forRead_ShouldSkipEjectedReplica_UntilEjectionExpires() {
+        failTwice(replica);
+
+        assertEquals(Set.of(primary), reads(20));
+
+        clock.advance(Duration.ofSeconds(11));
+        assertTrue(replica.isAvailable());
+    }
+
+    @Test
+    void forRead_ShouldFallBackToAllMembers_WhenNoneAvailable() {
+        failTwice(primary);
+        failTwice(replica);
+
+        assertFalse(primary.isAvailable());
+        assertFalse(replica.isAvailable());
+        assertTrue(replicaSet.members().containsAll(reads(20)));
+    }
+
+    @Test
+    void forRead_ShouldPinPrimary_WithinReadYourWritesWindow() {
+        replicaSet.onWrite();
+
+        assertEquals(Set.of(primary), reads(20));
+
+        clock.advance(Duration.ofSeconds(6));
+        assertEquals(Set.of(primary, replica), reads(100));
+    }
+
+    private Set<Upstream> reads(int count) {
+        Set<Upstream> chosen = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            chosen.add(replicaSet.forRead());
+        }
+        return chosen;
+    }
+
+    private void failTwice(Upstream upstream) {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ResourceAccessException.class, () -> upstream.call(() -> {
+                throw new ResourceAccessException("connection refused");
+            }));
+        }
+    }
+}
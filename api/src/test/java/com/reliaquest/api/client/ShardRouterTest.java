@@ -0,0 +1,80 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.server.config.MockShard;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardRouterTest {
+
+    private static final List<String> SHARDS = List.of(
+            "http://localhost:8112/api/v1/employee",
+            "http://localhost:8113/api/v1/employee",
+            "http://localhost:8114/api/v1/employee");
+
+    private final ShardRouter<String> router = new ShardRouter<>(SHARDS);
+
+    @Test
+    void hash_ShouldMatchMockServerShardHash() {
+        UUID id = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        assertEquals(914743645L, ShardRouter.hash(id));
+        assertEquals(1, ShardRouter.shardOf(id, 8));
+    }
+
+    @Test
+    void shardOf_ShouldAgreeWithMockServerOwnership() {
+        for (int count = 1; count <= 8; count++) {
+            for (int i = 0; i < 500; i++) {
+                UUID id = UUID.randomUUID();
+                int shard = ShardRouter.shardOf(id, count);
+
+                assertTrue(new MockShard(shard, count).owns(id), id + " of " + count);
+            }
+        }
+    }
+
+    @Test
+    void forId_ShouldBeStable() {
+        String id = UUID.randomUUID().toString();
+
+        assertEquals(router.forId(id), router.forId(id));
+    }
+
+    @Test
+    void forId_ShouldSpreadIdsAcrossAllShards() {
+        Map<String, Long> counts = IntStream.range(0, 3000)
+                .mapToObj(ignored -> router.forId(UUID.randomUUID().toString()))
+                .collect(Collectors.groupingBy(url -> url, Collectors.counting()));
+
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 800, "shard received " + count));
+    }
+
+    @Test
+    void forId_ShouldRouteNonUuidToFirstShard() {
+        assertEquals(SHARDS.get(0), router.forId("not-a-uuid"));
+    }
+
+    @Test
+    void groupByShard_ShouldKeepEveryId() {
+        List<String> ids = IntStream.range(0, 50).mapToObj(ignored -> UUID.randomUUID().toString()).toList();
+
+        Map<String, List<String>> grouped = router.groupByShard(ids);
+
+        assertEquals(50, grouped.values().stream().mapToInt(List::size).sum());
+        grouped.forEach((shard, shardIds) -> shardIds.forEach(id -> assertEquals(shard, router.forId(id))));
+    }
+
+    @Test
+    void forCreate_ShouldRoundRobin() {
+        assertEquals(SHARDS, List.of(router.forCreate(), router.forCreate(), router.forCreate()));
+        assertEquals(SHARDS.get(0), router.forCreate());
+    }
+}
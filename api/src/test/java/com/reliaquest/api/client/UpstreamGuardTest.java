@@ -0,0 +1,90 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamGuard guard;
+    private Upstream failing;
+    private Upstream healthy;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeClientProperties properties = new EmployeeClientProperties();
+        properties.getCircuitBreaker().setWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new UpstreamGuard(properties, meterRegistry);
+        MutableClock clock = new MutableClock();
+        failing = new Upstream("http://failing", "http://failing", 100, Duration.ofSeconds(10), clock);
+        healthy = new Upstream("http://healthy", "http://healthy", 100, Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void call_ShouldOpenCircuitOnlyForFailingUpstream() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ResourceAccessException.class, () -> guard.call(UpstreamOperation.GET, failing, () -> {
+                throw new ResourceAccessException("connection refused");
+            }));
+        }
+
+        assertThrows(UpstreamUnavailableException.class,
+                () -> guard.call(UpstreamOperation.GET, failing, () -> "unreachable"));
+        assertEquals("ok", guard.call(UpstreamOperation.GET, healthy, () -> "ok"));
+        assertEquals(1, meterRegistry.get("employee.upstream.circuit.state").tag("upstream", "http://failing")
+                .gauge().value());
+        assertEquals(0, meterRegistry.get("employee.upstream.circuit.state").tag("upstream", "http://healthy")
+                .gauge().value());
+    }
+
+    @Test
+    void bulkhead_ShouldLimitEachShardSeparately() {
+        EmployeeClientProperties properties = new EmployeeClientProperties();
+        properties.getBulkhead().setList(1);
+        properties.getBulkhead().setMaxWait(Duration.ZERO);
+        SimpleMeterRegistry sharded = new SimpleMeterRegistry();
+        UpstreamGuard shardedGuard = new UpstreamGuard(properties, sharded);
+        MutableClock clock = new MutableClock();
+        Upstream primary = new Upstream("http://a", "http://a", 100, Duration.ofSeconds(10), clock);
+        Upstream replica = new Upstream("http://a-replica", "http://a", 100, Duration.ofSeconds(10), clock);
+        Upstream otherShard = new Upstream("http://b", "http://b", 100, Duration.ofSeconds(10), clock);
+
+        shardedGuard.call(UpstreamOperation.LIST, primary, () -> {
+            assertEquals("ok", shardedGuard.call(UpstreamOperation.LIST, otherShard, () -> "ok"));
+            assertEquals("ok", shardedGuard.call(UpstreamOperation.GET, replica, () -> "ok"));
+            assertThrows(UpstreamUnavailableException.class,
+                    () -> shardedGuard.call(UpstreamOperation.LIST, replica, () -> "unreachable"));
+            assertEquals(0, sharded.get("employee.upstream.bulkhead.available")
+                    .tag("operation", "LIST").tag("shard", "http://a").gauge().value());
+            return null;
+        });
+
+        assertEquals(1, sharded.get("employee.upstream.bulkhead.available")
+                .tag("operation", "LIST").tag("shard", "http://a").gauge().value());
+        assertEquals(1, sharded.get("employee.upstream.bulkhead.rejected")
+                .tag("operation", "LIST").tag("shard", "http://a").counter().count());
+    }
+
+    @Test
+    void call_ShouldRecordIntoPerOperationTimers() {
+        guard.call(UpstreamOperation.LIST, healthy, () -> "ok");
+        guard.call(UpstreamOperation.LIST, healthy, () -> "ok");
+
+        assertEquals(2, meterRegistry.get("employee.upstream.calls")
+                .tag("operation", "LIST").tag("outcome", "success").timer().count());
+        assertEquals(0, meterRegistry.get("employee.upstream.calls")
+                .tag("operation", "LIST").tag("outcome", "failure").timer().count());
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamRateLimitTrackerTest {
+
+    private MutableClock clock;
+    private UpstreamRateLimitTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        tracker = new UpstreamRateLimitTracker(clock);
+    }
+
+    @Test
+    void sustainableInterval_ShouldBeZero_BeforeAnyLimitObserved() {
+        tracker.onAdmitted();
+
+        assertEquals(Duration.ZERO, tracker.sustainableInterval());
+        assertFalse(tracker.isLockedOut());
+    }
+
+    @Test
+    void onRateLimited_ShouldLearnLimitAndLockOut() {
+        for (int i = 0; i < 6; i++) {
+            tracker.onAdmitted();
+        }
+        tracker.onRateLimited(HttpHeaders.EMPTY);
+
+        assertTrue(tracker.isLockedOut());
+        assertEquals(Duration.ofSeconds(5), tracker.sustainableInterval());
+        clock.advance(Duration.ofSeconds(31));
+        assertFalse(tracker.isLockedOut());
+    }
+
+    @Test
+    void onRateLimited_ShouldHonorRetryAfter() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "120");
+
+        tracker.onRateLimited(headers);
+        clock.advance(Duration.ofSeconds(60));
+
+        assertTrue(tracker.isLockedOut());
+    }
+
+    @Test
+    void onAdmitted_ShouldRaiseLearnedBackoff_WhenStillLimitedPastEstimate() {
+        for (int i = 0; i < 5; i++) {
+            tracker.onAdmitted();
+        }
+        tracker.onRateLimited(HttpHeaders.EMPTY);
+        clock.advance(Duration.ofSeconds(50));
+        tracker.onRateLimited(HttpHeaders.EMPTY);
+        clock.advance(Duration.ofSeconds(20));
+        tracker.onAdmitted();
+
+        assertEquals(Duration.ofSeconds(10), tracker.sustainableInterval());
+    }
+}
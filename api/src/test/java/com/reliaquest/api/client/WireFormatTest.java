@@ -0,0 +1,83 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WireFormatTest {
+
+    private static final int ROSTER_SIZE = 10_000;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Test
+    void smile_ShouldBeSmallerThanJson_ForFullRoster() throws Exception {
+        Map<String, Object> response = Map.of("data", createRoster(), "status", "Successfully processed request.");
+
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+        byte[] smileBytes = smile.writeValueAsBytes(response);
+
+        double ratio = (double) smileBytes.length / jsonBytes.length;
+        assertTrue(ratio < 0.7, () -> "smile=%d bytes json=%d bytes".formatted(smileBytes.length, jsonBytes.length));
+    }
+
+    @Test
+    void smile_ShouldDecodeToSameShapeAsJson() throws Exception {
+        Map<String, Object> response = Map.of("data", createRoster());
+
+        Map<?, ?> fromJson = json.readValue(json.writeValueAsBytes(response), Map.class);
+        Map<?, ?> fromSmile = smile.readValue(smile.writeValueAsBytes(response), Map.class);
+
+        assertEquals(fromJson, fromSmile);
+        Map<?, ?> first = (Map<?, ?>) ((List<?>) fromSmile.get("data")).get(0);
+        assertInstanceOf(Integer.class, first.get("employee_salary"));
+        assertInstanceOf(Integer.class, first.get("employee_age"));
+    }
+
+    @Test
+    void parseEmployee_ShouldReadMockServerIds_InEveryWireFormat() throws Exception {
+        MockEmployee mockEmployee = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email("john@company.com")
+                .build();
+        Employee expected = new Employee(
+                mockEmployee.getId().toString(), "John Doe", 50000, 30, "Developer", "john@company.com");
+
+        for (ObjectMapper mapper : List.of(json, smile)) {
+            Map<String, Object> response =
+                    mapper.readValue(mapper.writeValueAsBytes(Map.of("data", List.of(mockEmployee))), Map.class);
+
+            assertEquals(List.of(expected), HttpEmployeeTransport.extractEmployeeList(response));
+        }
+    }
+
+    private List<Map<String, Object>> createRoster() {
+        List<Map<String, Object>> roster = new ArrayList<>(ROSTER_SIZE);
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            Map<String, Object> employee = new LinkedHashMap<>();
+            employee.put("id", UUID.randomUUID().toString());
+            employee.put("employee_name", "Employee " + i);
+            employee.put("employee_salary", 30000 + i);
+            employee.put("employee_age", 16 + i % 50);
+            employee.put("employee_title", "Title " + i % 20);
+            employee.put("employee_email", "employee" + i + "@company.com");
+            roster.add(employee);
+        }
+        return roster;
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.service.WriteBehindService;
+import com.reliaquest.api.service.WriteOperation;
+import com.reliaquest.api.service.WriteOperationStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AsyncEmployeeWriteController.class, properties = "employee.write-behind.enabled=true")
+class AsyncEmployeeWriteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WriteBehindService writeBehindService;
+
+    @Test
+    void deleteEmployeeByIdAsync_ShouldAccept_WhenRespondAsyncIsAmongOtherPreferences() throws Exception {
+        String id = UUID.randomUUID().toString();
+        when(writeBehindService.enqueueDelete(id)).thenReturn(new WriteOperationStatus(
+                "op-1", WriteOperation.Type.DELETE, WriteOperationStatus.State.PENDING, null, null, Instant.now(),
+                null));
+
+        mockMvc.perform(delete("/api/v1/employee/{id}", id).header("Prefer", "return=minimal, Respond-Async; x=1"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(header().string("Location", "/api/v1/employee/operations/op-1"));
+    }
+
+    @Test
+    void deleteEmployeeByIdAsync_ShouldNotMatch_WithoutRespondAsync() throws Exception {
+        mockMvc.perform(delete("/api/v1/employee/{id}", UUID.randomUUID().toString()).header("Prefer", "wait=10"))
+                .andExpect(status().is4xxClientError());
+
+        verify(writeBehindService, never()).enqueueDelete(any());
+    }
+}
@@ -12,12 +12,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -86,6 +90,25 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    void streamAllEmployees_ShouldWriteOneEmployeePerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Employee> sink = invocation.getArgument(0);
+            employeeList.forEach(sink);
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"name\":\"John Doe\"")));
+    }
+
     @Test
     void getEmployeesByNameSearch_ShouldReturnMatchingEmployees() throws Exception {
         when(employeeService.searchByName(anyString())).thenReturn(employeeList);
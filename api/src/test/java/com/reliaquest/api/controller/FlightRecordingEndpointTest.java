@@ -0,0 +1,54 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.config.ProfilingProperties;
+import com.reliaquest.api.service.FlightRecorderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingEndpointTest {
+
+    private FlightRecorderService flightRecorder;
+    private FlightRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setSettings("default");
+        flightRecorder = new FlightRecorderService(properties);
+        endpoint = new FlightRecordingEndpoint(flightRecorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecorder.destroy();
+    }
+
+    @Test
+    void start_ShouldReturnCreatedThenConflict() throws Exception {
+        assertEquals(201, endpoint.start(Duration.ofSeconds(30)).getStatus());
+        assertEquals(409, endpoint.start(null).getStatus());
+        assertEquals("RUNNING", endpoint.status().state());
+    }
+
+    @Test
+    void stop_ShouldDeleteRecordingOnceRead() throws Exception {
+        assertNull(endpoint.stop());
+        endpoint.start(null);
+
+        Resource recording = endpoint.stop();
+        assertTrue(recording.getFile().exists());
+        try (InputStream in = recording.getInputStream()) {
+            assertTrue(in.readAllBytes().length > 0);
+        }
+
+        assertFalse(recording.getFile().exists());
+        assertNull(endpoint.status());
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.RosterPeers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = RosterPeerController.class)
+class RosterPeerControllerDisabledTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @MockBean
+    private RosterPeers rosterPeers;
+
+    @Test
+    void receive_ShouldNotBeMapped_WhenPeersDisabled() throws Exception {
+        assertTrue(context.getBeansOfType(RosterPeerController.class).isEmpty());
+
+        mockMvc.perform(post("/internal/v1/roster/invalidations")
+                        .header(RosterPeers.SECRET_HEADER, "anything")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"origin\":\"attacker\",\"sequence\":1,\"type\":\"EVICT\",\"id\":\"x\"}"))
+                .andExpect(status().is4xxClientError());
+
+        verify(rosterPeers, never()).receive(any());
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.RosterInvalidation;
+import com.reliaquest.api.cache.RosterPeers;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = RosterPeerController.class, properties = "employee.peers.enabled=true")
+class RosterPeerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RosterPeers rosterPeers;
+
+    @Test
+    void receive_ShouldApplyMessage_WhenSecretMatches() throws Exception {
+        when(rosterPeers.isPeer("s3cret")).thenReturn(true);
+        RosterInvalidation message = new RosterInvalidation(
+                "peer", 1, RosterInvalidation.Type.EVICT, UUID.randomUUID().toString(), null);
+
+        mockMvc.perform(post("/internal/v1/roster/invalidations")
+                        .header(RosterPeers.SECRET_HEADER, "s3cret")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(message)))
+                .andExpect(status().isNoContent());
+
+        verify(rosterPeers).receive(message);
+    }
+
+    @Test
+    void receive_ShouldRejectMessage_WithoutPeerSecret() throws Exception {
+        Employee fake = new Employee(UUID.randomUUID().toString(), "Fake", 1, 30, "Fake", "fake@company.com");
+        RosterInvalidation message =
+                new RosterInvalidation("attacker", 1, RosterInvalidation.Type.PUT, fake.getId(), fake);
+
+        mockMvc.perform(post("/internal/v1/roster/invalidations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(message)))
+                .andExpect(status().isUnauthorized());
+
+        verify(rosterPeers, never()).receive(any());
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayReportTest {
+
+    @Test
+    void route_ShouldCollapseIdsAndSearchFragments() {
+        assertEquals("GET /api/v1/employee/{id}",
+                ReplayReport.route("GET", "/api/v1/employee/4f1c2b9e-8d3a-4e6b-9c71-2a5d0e8f3b14"));
+        assertEquals("GET /api/v1/employee/search/{fragment}",
+                ReplayReport.route("GET", "/api/v1/employee/search/jo%20hn"));
+        assertEquals("GET /api/v1/employee/salary",
+                ReplayReport.route("GET", "/api/v1/employee/salary?min=10&max=20"));
+    }
+
+    @Test
+    void summarize_ShouldReportPercentilesAndFailuresPerRoute() {
+        List<ReplayResult> results = List.of(
+                result(0, "GET /a", 200, 1000),
+                result(1, "GET /a", 200, 3000),
+                result(2, "GET /a", 503, 2000),
+                result(3, "GET /b", 0, 9000));
+
+        Map<String, ReplayReport.RouteStats> summary = ReplayReport.summarize(results);
+
+        assertEquals(new ReplayReport.RouteStats(3, 2000, 3000, 1), summary.get("GET /a"));
+        assertEquals(new ReplayReport.RouteStats(1, 9000, 9000, 1), summary.get("GET /b"));
+    }
+
+    @Test
+    void compare_ShouldListRequestsWhoseStatusChanged() {
+        List<ReplayResult> baseline = List.of(result(0, "GET /a", 200, 1000), result(1, "GET /a", 200, 1000));
+        List<ReplayResult> candidate = List.of(result(1, "GET /a", 500, 2000), result(0, "GET /a", 200, 1000));
+
+        String report = ReplayReport.compare(baseline, candidate);
+
+        assertTrue(report.contains("1 of 2 requests changed status"));
+        assertTrue(report.contains("#1 GET /a: 200 -> 500"));
+    }
+
+    private static ReplayResult result(int seq, String route, int status, long latencyMicros) {
+        return new ReplayResult(seq, route.split(" ")[0], route, status, 200, latencyMicros, null);
+    }
+}
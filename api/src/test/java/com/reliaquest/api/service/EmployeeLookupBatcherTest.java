@@ -0,0 +1,130 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.config.LookupBatchProperties;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeLookupBatcherTest {
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    @Mock
+    private RosterCache rosterCache;
+
+    private LookupBatchProperties properties;
+    private EmployeeLookupBatcher batcher;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LookupBatchProperties();
+        properties.setWindow(Duration.ofMillis(200));
+        properties.setMaxBatchSize(4);
+        properties.setRosterThreshold(10);
+        batcher = new EmployeeLookupBatcher(employeeClient, rosterCache, properties, new SimpleMeterRegistry());
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        batcher.destroy();
+    }
+
+    @Test
+    void find_ShouldResolveConcurrentLookupsWithOneUpstreamCall() throws Exception {
+        List<Employee> employees = createEmployees(4);
+        when(employeeClient.getEmployeesByIds(anyCollection())).thenReturn(employees.subList(0, 3));
+
+        List<Future<Optional<Employee>>> results = new ArrayList<>();
+        for (Employee employee : employees) {
+            results.add(callers.submit(() -> batcher.find(employee.getId())));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(employees.get(i), results.get(i).get().orElseThrow());
+        }
+        assertTrue(results.get(3).get().isEmpty());
+
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(employeeClient, times(1)).getEmployeesByIds(ids.capture());
+        assertEquals(4, ids.getValue().size());
+    }
+
+    @Test
+    void find_ShouldUseSingleLookup_WhenAlone() {
+        Employee employee = createEmployees(1).get(0);
+        when(employeeClient.getEmployeeById(employee.getId())).thenReturn(Optional.of(employee));
+
+        assertEquals(employee, batcher.find(employee.getId()).orElseThrow());
+        verify(employeeClient, never()).getEmployeesByIds(anyCollection());
+    }
+
+    @Test
+    void find_ShouldPropagateUpstreamFailure() {
+        when(employeeClient.getEmployeeById(anyString())).thenThrow(new ResourceAccessException("Connection refused"));
+
+        assertThrows(ResourceAccessException.class, () -> batcher.find(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void find_ShouldGiveUp_WhenFlushDoesNotCompleteInTime() {
+        properties.setTimeout(Duration.ofMillis(300));
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeClient.getEmployeeById(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return Optional.empty();
+        });
+
+        try {
+            assertThrows(UpstreamUnavailableException.class, () -> batcher.find(UUID.randomUUID().toString()));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void find_ShouldCallUpstreamDirectly_WhenDisabled() {
+        properties.setEnabled(false);
+        Employee employee = createEmployees(1).get(0);
+        when(employeeClient.getEmployeeById(employee.getId())).thenReturn(Optional.of(employee));
+
+        assertEquals(employee, batcher.find(employee.getId()).orElseThrow());
+    }
+
+    private List<Employee> createEmployees(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(UUID.randomUUID().toString(), "Employee " + i, 50000 + i, 30, "Developer", "e" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
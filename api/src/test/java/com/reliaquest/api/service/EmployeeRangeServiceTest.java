@@ -0,0 +1,93 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.exception.ValidationException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.HistogramBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRangeServiceTest {
+
+    @Mock
+    private RosterCache rosterCache;
+
+    @InjectMocks
+    private EmployeeRangeService rangeService;
+
+    private Employee junior;
+    private Employee mid;
+    private Employee senior;
+
+    @BeforeEach
+    void setUp() {
+        junior = employee("Junior", 40000, 22);
+        mid = employee("Mid", 75000, 35);
+        senior = employee("Senior", 120000, 35);
+    }
+
+    @Test
+    void getBySalaryRange_ShouldReturnInclusiveRangeInSalaryOrder() {
+        when(rosterCache.get()).thenReturn(new Roster(List.of(senior, junior, mid), 1, Instant.now()));
+
+        assertEquals(List.of(junior, mid), rangeService.getBySalaryRange(40000, 75000));
+        assertEquals(List.of(senior), rangeService.getBySalaryRange(75001, Integer.MAX_VALUE));
+        assertTrue(rangeService.getBySalaryRange(0, 39999).isEmpty());
+    }
+
+    @Test
+    void getByAgeRange_ShouldIncludeTies() {
+        when(rosterCache.get()).thenReturn(new Roster(List.of(senior, junior, mid), 1, Instant.now()));
+
+        assertEquals(List.of(senior, mid), rangeService.getByAgeRange(30, 40));
+    }
+
+    @Test
+    void getByAgeRange_ShouldRebuildIndex_WhenRosterVersionChanges() {
+        when(rosterCache.get())
+                .thenReturn(new Roster(List.of(junior), 1, Instant.now()))
+                .thenReturn(new Roster(List.of(junior, mid), 2, Instant.now()));
+
+        assertEquals(List.of(junior), rangeService.getByAgeRange(0, 100));
+        assertEquals(List.of(junior, mid), rangeService.getByAgeRange(0, 100));
+    }
+
+    @Test
+    void getAgeHistogram_ShouldCountPerBucket() {
+        when(rosterCache.get()).thenReturn(new Roster(List.of(senior, junior, mid), 1, Instant.now()));
+
+        assertEquals(
+                List.of(new HistogramBucket(20, 30, 1), new HistogramBucket(30, 40, 2)),
+                rangeService.getAgeHistogram(10));
+    }
+
+    @Test
+    void getSalaryHistogram_ShouldRejectTooManyBuckets() {
+        when(rosterCache.get()).thenReturn(new Roster(List.of(senior, junior), 1, Instant.now()));
+
+        assertThrows(ValidationException.class, () -> rangeService.getSalaryHistogram(1));
+    }
+
+    @Test
+    void getBySalaryRange_ShouldRejectInvertedRange() {
+        assertThrows(ValidationException.class, () -> rangeService.getBySalaryRange(10, 5));
+        verifyNoInteractions(rosterCache);
+    }
+
+    private static Employee employee(String name, int salary, int age) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, age, "Developer", name + "@company.com");
+    }
+}
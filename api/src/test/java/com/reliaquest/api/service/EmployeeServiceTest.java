@@ -1,5 +1,7 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterPeers;
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.Employee;
@@ -10,6 +12,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +30,15 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeClient employeeClient;
 
+    @Mock
+    private RosterCache rosterCache;
+
+    @Mock
+    private EmployeeLookupBatcher lookupBatcher;
+
+    @Mock
+    private RosterPeers rosterPeers;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -43,30 +57,30 @@ class EmployeeServiceTest {
 
     @Test
     void getAllEmployees_ShouldReturnAllEmployees() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeList);
+        when(rosterCache.getEmployees()).thenReturn(employeeList);
 
         List<Employee> result = employeeService.getAllEmployees();
 
         assertEquals(2, result.size());
         assertEquals("John Doe", result.get(0).getName());
         assertEquals("Jane Smith", result.get(1).getName());
-        verify(employeeClient).getAllEmployees();
+        verify(rosterCache).getEmployees();
     }
 
     @Test
     void searchByName_ShouldReturnMatchingEmployees() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeList);
+        when(rosterCache.getEmployees()).thenReturn(employeeList);
 
         List<Employee> result = employeeService.searchByName("John");
 
         assertEquals(1, result.size());
         assertEquals("John Doe", result.get(0).getName());
-        verify(employeeClient).getAllEmployees();
+        verify(rosterCache).getEmployees();
     }
 
     @Test
     void searchByName_ShouldBeCaseInsensitive() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeList);
+        when(rosterCache.getEmployees()).thenReturn(employeeList);
 
         List<Employee> result = employeeService.searchByName("john");
 
@@ -76,35 +90,55 @@ class EmployeeServiceTest {
 
     @Test
     void getById_ShouldReturnEmployee_WhenFound() {
-        when(employeeClient.getEmployeeById(validId.toString())).thenReturn(Optional.of(employee1));
+        when(lookupBatcher.find(validId.toString())).thenReturn(Optional.of(employee1));
 
         Employee result = employeeService.getById(validId);
 
         assertEquals("John Doe", result.getName());
-        verify(employeeClient).getEmployeeById(validId.toString());
+        verify(lookupBatcher).find(validId.toString());
     }
 
     @Test
     void getById_ShouldThrowException_WhenNotFound() {
         UUID invalidId = UUID.randomUUID();
-        when(employeeClient.getEmployeeById(invalidId.toString())).thenReturn(Optional.empty());
+        when(lookupBatcher.find(invalidId.toString())).thenReturn(Optional.empty());
 
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.getById(invalidId));
     }
 
+    @Test
+    void getById_ShouldServeLastKnownEmployee_WhenUpstreamRateLimited() {
+        when(lookupBatcher.find(validId.toString()))
+                .thenThrow(tooManyRequests());
+        when(rosterCache.findIfError(validId.toString())).thenReturn(Optional.of(employee1));
+
+        Employee result = employeeService.getById(validId);
+
+        assertEquals("John Doe", result.getName());
+    }
+
+    @Test
+    void getById_ShouldRethrow_WhenUpstreamRateLimitedAndNothingCached() {
+        when(lookupBatcher.find(validId.toString()))
+                .thenThrow(tooManyRequests());
+        when(rosterCache.findIfError(validId.toString())).thenReturn(Optional.empty());
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> employeeService.getById(validId));
+    }
+
     @Test
     void getHighestSalary_ShouldReturnHighestSalary() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeList);
+        when(rosterCache.getEmployees()).thenReturn(employeeList);
 
         int result = employeeService.getHighestSalary();
 
         assertEquals(60000, result);
-        verify(employeeClient).getAllEmployees();
+        verify(rosterCache).getEmployees();
     }
 
     @Test
     void getHighestSalary_ShouldReturnZero_WhenNoEmployees() {
-        when(employeeClient.getAllEmployees()).thenReturn(List.of());
+        when(rosterCache.getEmployees()).thenReturn(List.of());
 
         int result = employeeService.getHighestSalary();
 
@@ -113,7 +147,7 @@ class EmployeeServiceTest {
 
     @Test
     void getTop10Earners_ShouldReturnSortedNames() {
-        when(employeeClient.getAllEmployees()).thenReturn(employeeList);
+        when(rosterCache.getEmployees()).thenReturn(employeeList);
 
         List<String> result = employeeService.getTop10Earners();
 
@@ -125,7 +159,7 @@ class EmployeeServiceTest {
     @Test
     void getTop10Earners_ShouldLimitToTenResults() {
         List<Employee> manyEmployees = createEmployeeListWithSize(15);
-        when(employeeClient.getAllEmployees()).thenReturn(manyEmployees);
+        when(rosterCache.getEmployees()).thenReturn(manyEmployees);
 
         List<String> result = employeeService.getTop10Earners();
 
@@ -146,6 +180,7 @@ class EmployeeServiceTest {
         assertEquals("New Employee", result.getName());
         assertEquals(55000, result.getSalary());
         verify(employeeClient).createEmployee(request);
+        verify(rosterPeers).put(newEmployee);
     }
 
     @Test
@@ -157,6 +192,7 @@ class EmployeeServiceTest {
 
         assertTrue(result);
         verify(employeeClient).deleteById(employeeId);
+        verify(rosterPeers).evict(employeeId);
     }
 
     @Test
@@ -168,6 +204,11 @@ class EmployeeServiceTest {
 
         assertFalse(result);
         verify(employeeClient).deleteById(employeeId);
+        verify(rosterPeers, never()).evict(employeeId);
+    }
+
+    private HttpClientErrorException tooManyRequests() {
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", HttpHeaders.EMPTY, new byte[0], null);
     }
 
     private List<Employee> createEmployeeListWithSize(int size) {
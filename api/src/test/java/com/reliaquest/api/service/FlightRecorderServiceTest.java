@@ -0,0 +1,63 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.ProfilingProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderServiceTest {
+
+    private FlightRecorderService flightRecorder;
+
+    @BeforeEach
+    void setUp() {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setSettings("default");
+        properties.setMaxDuration(Duration.ofMinutes(1));
+        flightRecorder = new FlightRecorderService(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecorder.destroy();
+    }
+
+    @Test
+    void start_ShouldCapDurationAndAllowOneRecordingAtATime() throws Exception {
+        RecordingStatus status = flightRecorder.start(Duration.ofHours(1)).orElseThrow();
+
+        assertEquals("RUNNING", status.state());
+        assertEquals(Duration.ofMinutes(1), status.duration());
+        assertTrue(flightRecorder.start(Duration.ofSeconds(10)).isEmpty());
+    }
+
+    @Test
+    void stop_ShouldDumpCustomEvents() throws Exception {
+        flightRecorder.start(Duration.ofSeconds(30));
+        EmployeeComputationEvent.begin("searchByName", 3).end(1);
+
+        Path file = flightRecorder.stop().orElseThrow();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.reliaquest.api.EmployeeComputation"))
+                    .toList();
+            assertEquals(1, events.size());
+            assertEquals("searchByName", events.get(0).getString("operation"));
+            assertEquals(3, events.get(0).getInt("rosterSize"));
+            assertEquals(1, events.get(0).getInt("resultSize"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertTrue(flightRecorder.stop().isEmpty());
+        assertTrue(flightRecorder.status().isEmpty());
+    }
+}
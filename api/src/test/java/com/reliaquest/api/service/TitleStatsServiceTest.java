@@ -0,0 +1,84 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.Roster;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleStatsServiceTest {
+
+    @Mock
+    private RosterCache rosterCache;
+
+    private TitleStatsService titleStatsService;
+    private Employee alice;
+    private Employee bob;
+    private Employee carol;
+
+    @BeforeEach
+    void setUp() {
+        titleStatsService = new TitleStatsService(rosterCache);
+        alice = employee("Alice", 90000, "Developer");
+        bob = employee("Bob", 60000, "Developer");
+        carol = employee("Carol", 70000, "Manager");
+    }
+
+    @Test
+    void getStatsByTitle_ShouldAggregatePerTitle() {
+        when(rosterCache.get()).thenReturn(new Roster(List.of(alice, bob, carol), 1, Instant.now()));
+
+        assertEquals(
+                List.of(
+                        new TitleStats("Developer", 2, 60000, 90000, 75000.0, List.of("Alice")),
+                        new TitleStats("Manager", 1, 70000, 70000, 70000.0, List.of("Carol"))),
+                titleStatsService.getStatsByTitle(1));
+        verify(rosterCache).addListener(titleStatsService);
+    }
+
+    @Test
+    void onPutAndOnEvict_ShouldPatchGroupsIncrementally() {
+        Roster roster = new Roster(List.of(alice, bob), 1, Instant.now());
+        titleStatsService.onRefresh(roster);
+
+        Employee dave = employee("Dave", 100000, "Developer");
+        titleStatsService.onPut(new Roster(List.of(alice, bob, dave), 2, Instant.now()), dave);
+        Roster latest = new Roster(List.of(alice, dave), 3, Instant.now());
+        titleStatsService.onEvict(latest, bob.getId());
+        when(rosterCache.get()).thenReturn(latest);
+
+        assertEquals(
+                List.of(new TitleStats("Developer", 2, 90000, 100000, 95000.0, List.of("Dave", "Alice"))),
+                titleStatsService.getStatsByTitle(3));
+    }
+
+    @Test
+    void onEvict_ShouldRebuild_WhenVersionsWereSkipped() {
+        titleStatsService.onRefresh(new Roster(List.of(alice, bob, carol), 1, Instant.now()));
+
+        Roster latest = new Roster(List.of(carol), 4, Instant.now());
+        titleStatsService.onEvict(latest, alice.getId());
+        titleStatsService.onPut(new Roster(List.of(alice, bob, carol), 3, Instant.now()), alice);
+        when(rosterCache.get()).thenReturn(latest);
+
+        assertEquals(
+                List.of(new TitleStats("Manager", 1, 70000, 70000, 70000.0, List.of("Carol"))),
+                titleStatsService.getStatsByTitle(3));
+    }
+
+    private static Employee employee(String name, int salary, String title) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, 30, title, name + "@company.com");
+    }
+}
@@ -0,0 +1,216 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.RateLimitStatus;
+import com.reliaquest.api.config.WriteBehindProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private RateLimitStatus rateLimits;
+
+    @TempDir
+    private Path tempDir;
+
+    private WriteBehindProperties properties;
+    private WriteBehindService service;
+    private EmployeeCreateRequest request;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new WriteBehindProperties();
+        properties.setJournal(tempDir.resolve("journal.ndjson").toString());
+        properties.setBatchSize(2);
+        service = newService();
+
+        request = new EmployeeCreateRequest();
+        request.setName("John Doe");
+        request.setTitle("Developer");
+        request.setSalary(50000);
+        request.setAge(30);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    void drainOnce_ShouldApplyInOrderAndRecordResult() {
+        Employee created = new Employee(UUID.randomUUID().toString(), "John Doe", 50000, 30, "Developer", null);
+        when(employeeService.createEmployee(request)).thenReturn(created);
+        when(employeeService.deleteById(created.getId())).thenReturn(true);
+
+        WriteOperationStatus create = service.enqueueCreate(request);
+        WriteOperationStatus delete = service.enqueueDelete(created.getId());
+        assertEquals(WriteOperationStatus.State.PENDING, create.state());
+
+        assertEquals(2, service.drainOnce());
+
+        assertEquals(created, service.status(create.operationId()).orElseThrow().result());
+        assertEquals(true, service.status(delete.operationId()).orElseThrow().result());
+        verify(employeeService).createEmployee(request);
+    }
+
+    @Test
+    void drainOnce_ShouldKeepOperationQueued_WhenRateLimited() {
+        when(employeeService.createEmployee(request))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", new HttpHeaders(), null, null))
+                .thenReturn(new Employee());
+
+        WriteOperationStatus status = service.enqueueCreate(request);
+
+        assertEquals(0, service.drainOnce());
+        assertEquals(WriteOperationStatus.State.PENDING, service.status(status.operationId()).orElseThrow().state());
+        assertEquals(1, service.drainOnce());
+        assertEquals(WriteOperationStatus.State.SUCCEEDED, service.status(status.operationId()).orElseThrow().state());
+    }
+
+    @Test
+    void drainOnce_ShouldKeepDeleteQueued_WhenRateLimited() {
+        String id = UUID.randomUUID().toString();
+        when(employeeService.deleteById(id))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", new HttpHeaders(), null, null))
+                .thenReturn(true);
+
+        WriteOperationStatus status = service.enqueueDelete(id);
+
+        assertEquals(0, service.drainOnce());
+        assertEquals(WriteOperationStatus.State.PENDING, service.status(status.operationId()).orElseThrow().state());
+        assertEquals(1, service.drainOnce());
+        assertEquals(true, service.status(status.operationId()).orElseThrow().result());
+    }
+
+    @Test
+    void drainOnce_ShouldDeadLetterOperation_WhenOutOfAttempts() throws IOException {
+        properties.setMaxAttempts(3);
+        String id = UUID.randomUUID().toString();
+        when(employeeService.createEmployee(request))
+                .thenThrow(HttpServerErrorException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", new HttpHeaders(), null, null));
+        when(employeeService.deleteById(id)).thenReturn(true);
+
+        WriteOperationStatus create = service.enqueueCreate(request);
+        WriteOperationStatus delete = service.enqueueDelete(id);
+
+        assertEquals(0, service.drainOnce());
+        assertEquals(0, service.drainOnce());
+        assertEquals(2, service.drainOnce());
+
+        WriteOperationStatus failed = service.status(create.operationId()).orElseThrow();
+        assertEquals(WriteOperationStatus.State.FAILED, failed.state());
+        assertTrue(failed.error().startsWith("Gave up after 3 attempts"));
+        assertEquals(true, service.status(delete.operationId()).orElseThrow().result());
+        verify(employeeService, times(3)).createEmployee(request);
+
+        service.destroy();
+        service = newService();
+        service.recover();
+        assertTrue(service.status(create.operationId()).isEmpty());
+    }
+
+    @Test
+    void drainOnce_ShouldNotCallUpstream_WhileLockedOut() {
+        when(rateLimits.isLockedOut()).thenReturn(true);
+
+        service.enqueueDelete(UUID.randomUUID().toString());
+
+        assertEquals(0, service.drainOnce());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void recover_ShouldReplayOperationsNotYetApplied() throws IOException {
+        WriteOperationStatus status = service.enqueueCreate(request);
+        service.destroy();
+
+        service = newService();
+        service.recover();
+
+        assertEquals(WriteOperationStatus.State.PENDING, service.status(status.operationId()).orElseThrow().state());
+        when(employeeService.createEmployee(request)).thenReturn(new Employee());
+        assertEquals(1, service.drainOnce());
+    }
+
+    @Test
+    void constructor_ShouldCreateOwnerOnlyJournal() throws IOException {
+        assumeTrue(isPosix());
+        service.destroy();
+        Path journal = tempDir.resolve("employee-api").resolve("journal.ndjson");
+        properties.setJournal(journal.toString());
+
+        service = newService();
+
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(journal)));
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(journal.getParent())));
+    }
+
+    @Test
+    void constructor_ShouldRefuseJournal_WhenOtherUsersCanWriteIt() throws IOException {
+        assumeTrue(isPosix());
+        service.enqueueDelete(UUID.randomUUID().toString());
+        service.destroy();
+        Files.setPosixFilePermissions(
+                Path.of(properties.getJournal()), PosixFilePermissions.fromString("rw-rw-rw-"));
+
+        IOException refused = assertThrows(IOException.class, this::newService);
+
+        assertTrue(refused.getMessage().contains("writable by other users"));
+        service = null;
+    }
+
+    @Test
+    void constructor_ShouldRefuseJournal_WhenOtherUsersCanWriteItsDirectory() throws IOException {
+        assumeTrue(isPosix());
+        service.destroy();
+        Path shared = Files.createDirectory(tempDir.resolve("shared"));
+        Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+        properties.setJournal(shared.resolve("journal.ndjson").toString());
+
+        assertThrows(IOException.class, this::newService);
+        service = null;
+    }
+
+    private static boolean isPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+
+    private WriteBehindService newService() throws IOException {
+        return new WriteBehindService(
+                employeeService, rateLimits, properties, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private AdaptiveConcurrencyLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        limit = new AdaptiveConcurrencyLimit(properties);
+    }
+
+    @Test
+    void tryAcquire_ShouldShedLowPriorityFirst() {
+        for (int i = 0; i < 7; i++) {
+            assertTrue(limit.tryAcquire(RequestPriority.LOW));
+        }
+
+        assertFalse(limit.tryAcquire(RequestPriority.LOW));
+        assertTrue(limit.tryAcquire(RequestPriority.NORMAL));
+        assertTrue(limit.tryAcquire(RequestPriority.NORMAL));
+        assertFalse(limit.tryAcquire(RequestPriority.NORMAL));
+        assertTrue(limit.tryAcquire(RequestPriority.HIGH));
+        assertFalse(limit.tryAcquire(RequestPriority.HIGH));
+
+        limit.release();
+        assertTrue(limit.tryAcquire(RequestPriority.HIGH));
+    }
+
+    @Test
+    void onSample_ShouldGrowWhileLatencyIsSteadyAndShrinkWhenItRises() {
+        fill();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        double grown = limit.getLimit();
+        assertTrue(grown > 10);
+
+        fill();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        assertTrue(limit.getLimit() < grown);
+    }
+
+    @Test
+    void onSample_ShouldNotGrowAnUnusedLimit() {
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertEquals(10, limit.getLimit());
+    }
+
+    private void fill() {
+        while (limit.tryAcquire(RequestPriority.HIGH)) {
+            /* hold every slot so samples count as a saturated limit */
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimit limit;
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        limit = new AdaptiveConcurrencyLimit(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(limit, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @Test
+    void doFilter_ShouldReleaseSlot_WhenRequestCompletes() throws Exception {
+        AtomicInteger inFlightDuringRequest = new AtomicInteger();
+        FilterChain chain = (request, response) -> inFlightDuringRequest.set(limit.getInFlight());
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), new MockHttpServletResponse(), chain);
+
+        assertEquals(1, inFlightDuringRequest.get());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldShedWith503_WhenPriorityShareIsExhausted() throws Exception {
+        for (int i = 0; i < 7; i++) {
+            assertTrue(limit.tryAcquire(RequestPriority.LOW));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/employee"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        assertEquals(1, meterRegistry.get("employee.inbound.rejected").tag("priority", "LOW").counter().count());
+        assertEquals(7, limit.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldHoldSlotUntilAsyncRequestCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader("Accept", "application/x-ndjson");
+        request.setAsyncSupported(true);
+        FilterChain chain = (servletRequest, servletResponse) -> servletRequest.startAsync();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(1, limit.getInFlight());
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, limit.getInFlight());
+    }
+}
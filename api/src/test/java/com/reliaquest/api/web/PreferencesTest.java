@@ -0,0 +1,34 @@
+package com.reliaquest.api.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreferencesTest {
+
+    @Test
+    void contains_ShouldFindPreferenceAmongOthers() {
+        assertTrue(Preferences.contains("respond-async", "respond-async"));
+        assertTrue(Preferences.contains("respond-async, wait=10", "respond-async"));
+        assertTrue(Preferences.contains("wait=10,Respond-Async", "respond-async"));
+        assertTrue(Preferences.contains("respond-async; foo=bar", "respond-async"));
+    }
+
+    @Test
+    void contains_ShouldNotMatchValuesOrPrefixes() {
+        assertFalse(Preferences.contains("return=respond-async", "respond-async"));
+        assertFalse(Preferences.contains("respond-asynchronously", "respond-async"));
+        assertFalse(Preferences.contains("", "respond-async"));
+    }
+
+    @Test
+    void contains_ShouldReadRepeatedHeaders() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Prefer", "wait=10");
+        request.addHeader("Prefer", "respond-async");
+
+        assertTrue(Preferences.contains(request, "respond-async"));
+        assertFalse(Preferences.contains(new MockHttpServletRequest(), "respond-async"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestPriorityTest {
+
+    @Test
+    void of_ShouldRankRosterReadsHigh() {
+        assertEquals(RequestPriority.HIGH, RequestPriority.of(get("/api/v1/employee")));
+        assertEquals(RequestPriority.HIGH, RequestPriority.of(get("/api/v1/employee/highestSalary")));
+        assertEquals(RequestPriority.HIGH, RequestPriority.of(get("/api/v1/employee/search/smith")));
+        assertEquals(RequestPriority.HIGH, RequestPriority.of(get("/api/v1/employee/stats/by-title")));
+    }
+
+    @Test
+    void of_ShouldRankUpstreamReadsNormal() {
+        assertEquals(RequestPriority.NORMAL, RequestPriority.of(get("/api/v1/employee/" + UUID.randomUUID())));
+
+        MockHttpServletRequest stream = get("/api/v1/employee");
+        stream.addHeader("Accept", MediaType.APPLICATION_NDJSON_VALUE);
+        assertEquals(RequestPriority.NORMAL, RequestPriority.of(stream));
+    }
+
+    @Test
+    void of_ShouldRankWritesLow() {
+        assertEquals(RequestPriority.LOW, RequestPriority.of(new MockHttpServletRequest("POST", "/api/v1/employee")));
+        assertEquals(RequestPriority.LOW,
+                RequestPriority.of(new MockHttpServletRequest("DELETE", "/api/v1/employee/" + UUID.randomUUID())));
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
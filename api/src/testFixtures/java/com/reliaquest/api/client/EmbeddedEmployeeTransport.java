@@ -0,0 +1,145 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeClientProperties;
+import com.reliaquest.api.config.EmbeddedTransportProperties;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeCreateRequest;
+import com.reliaquest.server.EmbeddedMockServer;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Calls a {@link MockEmployeeService} running in this JVM, mapping its objects straight to {@link Employee}
+ * without any encoding. Failures are raised as the HTTP transport would see them, so rate-limit tracking, retries
+ * and the circuit breaker behave the same. Request validation is left to the API's own controller; the mock
+ * controller's validation does not run here. Lives in the test fixtures, so it is only available to tests.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "employee.client", name = "transport", havingValue = "embedded")
+public class EmbeddedEmployeeTransport implements EmployeeTransport {
+
+    private final EmbeddedMockServer server;
+
+    public EmbeddedEmployeeTransport(EmployeeClientProperties properties, EmbeddedTransportProperties embedded) {
+        if (properties.getShards().size() > 1) {
+            throw new IllegalStateException("The embedded transport runs a single mock service and cannot be sharded");
+        }
+        this.server = new EmbeddedMockServer(embedded.getEmployees(), faults(embedded));
+        log.info("Using an embedded mock employee service with {} employees",
+                server.getService().getMockEmployees().size());
+    }
+
+    @Override
+    public List<Employee> getAll(String baseUrl) {
+        admit();
+        return List.copyOf(server.getService().getMockEmployees()).stream()
+                .map(EmbeddedEmployeeTransport::toEmployee)
+                .toList();
+    }
+
+    @Override
+    public void stream(String baseUrl, Consumer<Employee> sink) {
+        admit();
+        for (MockEmployee employee : List.copyOf(server.getService().getMockEmployees())) {
+            sink.accept(toEmployee(employee));
+        }
+    }
+
+    @Override
+    public Optional<Employee> getById(String baseUrl, String id) {
+        admit();
+        return server.getService().findById(uuid(id)).map(EmbeddedEmployeeTransport::toEmployee);
+    }
+
+    @Override
+    public List<Employee> getByIds(String baseUrl, Collection<String> ids) {
+        admit();
+        return server.getService().findByIds(ids.stream().map(EmbeddedEmployeeTransport::uuid).toList()).stream()
+                .map(EmbeddedEmployeeTransport::toEmployee)
+                .toList();
+    }
+
+    @Override
+    public Employee create(String baseUrl, EmployeeCreateRequest request) {
+        admit();
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(request.getName());
+        input.setSalary(request.getSalary());
+        input.setAge(request.getAge());
+        input.setTitle(request.getTitle());
+        return toEmployee(server.getService().create(input));
+    }
+
+    @Override
+    public boolean deleteByName(String baseUrl, String name) {
+        admit();
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return server.getService().delete(input);
+    }
+
+    /*
+     * Nothing is decoded on this path; the sample still goes through the shared row parsing.
+     */
+    @Override
+    public List<Employee> decodeSample(Map<String, Object> response) {
+        return HttpEmployeeTransport.extractEmployeeList(response);
+    }
+
+    private void admit() {
+        if (!server.tryAcquire()) {
+            HttpHeaders headers = new HttpHeaders();
+            server.retryAfterSeconds().ifPresent(seconds -> headers.set(HttpHeaders.RETRY_AFTER, seconds.toString()));
+            throw HttpClientErrorException.create(
+                    HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8);
+        }
+    }
+
+    /*
+     * The mock controller rejects malformed ids with 400 before the service sees them.
+     */
+    private static UUID uuid(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw HttpClientErrorException.create(
+                    HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Employee toEmployee(MockEmployee employee) {
+        return new Employee(
+                employee.getId().toString(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getTitle(),
+                employee.getEmail());
+    }
+
+    private static FaultInjectionProperties faults(EmbeddedTransportProperties embedded) {
+        FaultInjectionProperties faults = new FaultInjectionProperties();
+        faults.setSeed(embedded.getSeed());
+        faults.getRateLimit().setEnabled(embedded.isRateLimit());
+        faults.getRateLimit().setLimit(embedded.getRateLimitRequests());
+        faults.getRateLimit().setBackoff(embedded.getRateLimitBackoff());
+        return faults;
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the in-process mock employee service used with employee.client.transport=embedded. Lives in the test
+ * fixtures next to the transport, so the API jar has neither.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.client.embedded")
+public class EmbeddedTransportProperties {
+
+    private int employees = 50;
+
+    /*
+     * Applies the mock server's random request limit to in-process calls too, so rate-limit handling can be
+     * exercised without HTTP. Unset limit and backoff are drawn as the mock server does, from seed if given.
+     */
+    private boolean rateLimit = false;
+
+    private Integer rateLimitRequests;
+    private Duration rateLimitBackoff;
+    private Long seed;
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip for response bodies that are encoded once and served many times, as the API's roster converter and the
+ * mock server's response cache do.
+ */
+public final class GzipBodies {
+
+    /*
+     * Same threshold as Tomcat's server.compression.min-response-size default.
+     */
+    public static final int MIN_SIZE = 2048;
+
+    private GzipBodies() {}
+
+    /**
+     * The gzipped body, or null when the body is too small to be worth compressing.
+     */
+    public static byte[] compressIfWorthIt(byte[] identity) {
+        return identity.length >= MIN_SIZE ? compress(identity) : null;
+    }
+
+    public static byte[] compress(byte[] identity) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Whether an Accept-Encoding header value admits gzip, per RFC 9110. An explicit {@code gzip} or {@code x-gzip}
+     * entry decides; otherwise {@code *} does. A weight of zero, or one that does not parse, refuses the coding.
+     */
+    public static boolean accepted(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double wildcard = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = Math.max(gzip, weight(parts));
+            } else if (coding.equals("*")) {
+                wildcard = Math.max(wildcard, weight(parts));
+            }
+        }
+        return (gzip >= 0 ? gzip : wildcard) > 0;
+    }
+
+    private static double weight(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    double weight = Double.parseDouble(parameter.substring(2).trim());
+                    return weight >= 0 && weight <= 1 ? weight : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Local state that an application reads back and acts on, such as the API's roster snapshot and write journal,
+ * must not be plantable by another local user. On POSIX file systems directories and files are created owner-only,
+ * and a file is trusted only if it and its directory belong to the current user, nobody else can write to either
+ * and the file is not a symbolic link. Other file systems are not checked.
+ */
+public final class PrivateFiles {
+
+    private static final Set<PosixFilePermission> SHARED_WRITE =
+            EnumSet.of(PosixFilePermission.GROUP_WRITE, PosixFilePermission.OTHERS_WRITE);
+
+    private PrivateFiles() {}
+
+    public static void createDirectories(Path directory) throws IOException {
+        if (isPosix(directory)) {
+            Files.createDirectories(
+                    directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Attributes that make a newly created file readable and writable by its owner only.
+     */
+    public static FileAttribute<?>[] ownerOnly(Path path) {
+        if (!isPosix(path)) {
+            return new FileAttribute<?>[0];
+        }
+        FileAttribute<Set<PosixFilePermission>> readWrite =
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+        return new FileAttribute<?>[] {readWrite};
+    }
+
+    /**
+     * Why the file cannot be trusted, or empty if it can. The directory is checked as well, since whoever can write
+     * to it can swap the file after this check.
+     *
+     * @throws java.nio.file.NoSuchFileException if the file does not exist
+     */
+    public static Optional<String> untrusted(Path path) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        if (!isPosix(absolute)) {
+            return Optional.empty();
+        }
+        UserPrincipal user = absolute.getFileSystem()
+                .getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        for (Path checked : List.of(absolute.getParent(), absolute)) {
+            PosixFileAttributes attributes =
+                    Files.readAttributes(checked, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (attributes.isSymbolicLink()) {
+                return Optional.of(checked + " is a symbolic link");
+            }
+            if (!attributes.owner().equals(user)) {
+                return Optional.of(
+                        checked + " is owned by " + attributes.owner().getName());
+            }
+            if (!Collections.disjoint(attributes.permissions(), SHARED_WRITE)) {
+                return Optional.of(checked + " is writable by other users");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isPosix(Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+}
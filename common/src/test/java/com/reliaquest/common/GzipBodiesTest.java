@@ -0,0 +1,47 @@
+package com.reliaquest.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class GzipBodiesTest {
+
+    @Test
+    void accepted_ShouldHonourWeights() {
+        assertTrue(GzipBodies.accepted("gzip"));
+        assertTrue(GzipBodies.accepted("deflate, GZIP;q=0.5"));
+        assertTrue(GzipBodies.accepted("x-gzip"));
+        assertFalse(GzipBodies.accepted("gzip;q=0"));
+        assertFalse(GzipBodies.accepted("gzip; q=0.000, deflate"));
+        assertFalse(GzipBodies.accepted("deflate, br"));
+        assertFalse(GzipBodies.accepted(null));
+    }
+
+    @Test
+    void accepted_ShouldFallBackToWildcard_WhenGzipIsNotListed() {
+        assertTrue(GzipBodies.accepted("br, *;q=0.1"));
+        assertFalse(GzipBodies.accepted("br, *;q=0"));
+        assertFalse(GzipBodies.accepted("gzip;q=0, *"));
+    }
+
+    @Test
+    void accepted_ShouldRefuse_WhenWeightDoesNotParse() {
+        assertFalse(GzipBodies.accepted("gzip;q=high"));
+        assertFalse(GzipBodies.accepted("gzip;q=2"));
+    }
+
+    @Test
+    void compressIfWorthIt_ShouldOnlyCompressFromMinimumSize() throws IOException {
+        byte[] small = new byte[GzipBodies.MIN_SIZE - 1];
+        byte[] large = new byte[GzipBodies.MIN_SIZE];
+
+        assertNull(GzipBodies.compressIfWorthIt(small));
+        try (GZIPInputStream gzip =
+                new GZIPInputStream(new ByteArrayInputStream(GzipBodies.compressIfWorthIt(large)))) {
+            assertArrayEquals(large, gzip.readAllBytes());
+        }
+    }
+}
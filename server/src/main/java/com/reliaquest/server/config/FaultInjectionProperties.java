@@ -0,0 +1,117 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Latency, error and rate-limit behaviour of the mock server. With a {@code seed} the generated roster and every
+ * random draw are reproducible, so runs against the API can be compared with each other.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+
+    private boolean enabled = false;
+
+    /*
+     * Unset means a fresh seed per start.
+     */
+    private Long seed;
+
+    /*
+     * Applies to every endpoint without its own latency.
+     */
+    private Latency latency = new Latency();
+
+    /*
+     * Keyed by HTTP method and route pattern, e.g. "GET /api/v1/employee" or "GET /api/v1/employee/{id}". The key
+     * contains a slash, so in YAML it has to be bracketed: "[GET /api/v1/employee]".
+     */
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    public RandomGenerator random() {
+        return seed != null ? new SplittableRandom(seed) : RandomGenerator.getDefault();
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        NORMAL,
+        /*
+         * Normal, except that a tail-probability share of requests takes the tail duration instead.
+         */
+        LONG_TAIL
+    }
+
+    @Data
+    public static class Latency {
+
+        private Distribution distribution = Distribution.NONE;
+        private Duration fixed = Duration.ZERO;
+        private Duration mean = Duration.ofMillis(50);
+        private Duration stddev = Duration.ofMillis(10);
+        private double tailProbability = 0.01;
+        private Duration tail = Duration.ofSeconds(2);
+
+        public Duration sample(RandomGenerator random) {
+            return switch (distribution) {
+                case NONE -> Duration.ZERO;
+                case FIXED -> fixed;
+                case NORMAL -> normal(random);
+                case LONG_TAIL -> random.nextDouble() < tailProbability ? tail : normal(random);
+            };
+        }
+
+        private Duration normal(RandomGenerator random) {
+            final var millis = mean.toMillis() + random.nextGaussian() * stddev.toMillis();
+            return Duration.ofMillis(Math.max(0, Math.round(millis)));
+        }
+    }
+
+    @Data
+    public static class Endpoint {
+
+        /*
+         * Overrides the default latency when set.
+         */
+        private Latency latency;
+
+        /*
+         * Share of requests answered with 500.
+         */
+        private double errorRate;
+
+        /*
+         * Share of requests whose connection is dropped mid-response.
+         */
+        private double resetRate;
+    }
+
+    @Data
+    public static class RateLimit {
+
+        private boolean enabled = true;
+
+        /*
+         * Requests admitted before the backoff starts; unset means drawn between 5 and 9 at startup.
+         */
+        private Integer limit;
+
+        /*
+         * Unset means drawn between 30 and 89 seconds at startup.
+         */
+        private Duration backoff;
+
+        /*
+         * Tell rate-limited clients when the backoff ends; off reproduces a limiter that only answers 429.
+         */
+        private boolean retryAfter = true;
+    }
+}
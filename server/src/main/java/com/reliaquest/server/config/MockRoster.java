@@ -0,0 +1,54 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+import net.datafaker.transformations.Field;
+import net.datafaker.transformations.JavaObjectTransformer;
+import net.datafaker.transformations.Schema;
+
+/**
+ * Generates the initial mock roster. Shared by the server's bean definition and by in-process embeddings, so both
+ * start from identically shaped data.
+ */
+@Slf4j
+public final class MockRoster {
+
+    private MockRoster() {}
+
+    /**
+     * A faker drawing from {@code seed} when it is set, so that with the same seed and default locale every start
+     * generates the same roster.
+     */
+    public static Faker faker(Long seed) {
+        return seed != null ? new Faker(Locale.getDefault(), new Random(seed)) : new Faker(Locale.getDefault());
+    }
+
+    /*
+     * Ids are drawn from the faker as well, so a seeded faker reproduces the whole roster. The returned list is
+     * modifiable by design for CRUD operations.
+     */
+    public static List<MockEmployee> generate(Faker faker, MockShard shard, int size) {
+        final var transformer = new JavaObjectTransformer();
+        final var schema = Schema.of(
+                Field.field("id", () -> shard.randomOwnedId(faker.random()::nextLong)),
+                Field.field("name", () -> faker.name().fullName()),
+                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
+                Field.field("age", () -> faker.number().numberBetween(16, 70)),
+                Field.field("title", () -> faker.job().title()),
+                Field.field(
+                        "email",
+                        () -> ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase())));
+        return IntStream.rangeClosed(1, size)
+                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
+                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
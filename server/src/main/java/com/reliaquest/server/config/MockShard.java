@@ -0,0 +1,73 @@
+package com.reliaquest.server.config;
+
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Identifies which slice of the employee id space this instance owns when the mock server runs as several shard
+ * processes. Ids are hashed to 32 bits and the hash space is split into {@code count} equal contiguous ranges; this
+ * instance only generates ids that fall into range {@code index}. Changing the count reassigns most ids. The API's
+ * shard router applies the same hash to route by id.
+ */
+@Getter
+@Component
+public class MockShard {
+
+    private final int index;
+    private final int count;
+
+    public MockShard(@Value("${mock.shard.index:0}") int index, @Value("${mock.shard.count:1}") int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard %d of %d".formatted(index, count));
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    public boolean owns(UUID id) {
+        return shardOf(id, count) == index;
+    }
+
+    public UUID randomOwnedId() {
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (!owns(id));
+        return id;
+    }
+
+    /*
+     * Same as randomOwnedId, but takes the bits from the given source, so a seeded source yields the same ids on
+     * every run. The ids are shaped as version 4 UUIDs.
+     */
+    public UUID randomOwnedId(LongSupplier bits) {
+        UUID id;
+        do {
+            final var mostSignificant = bits.getAsLong() & ~0xf000L | 0x4000L;
+            final var leastSignificant = bits.getAsLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+            id = new UUID(mostSignificant, leastSignificant);
+        } while (!owns(id));
+        return id;
+    }
+
+    static int shardOf(UUID id, int count) {
+        return (int) ((hash(id) * count) >>> 32);
+    }
+
+    /*
+     * MurmurHash3 fmix64 finalizer over both halves of the UUID, keeping the upper 32 bits. Must stay identical to
+     * the API's ShardRouter.hash, whose tests check both against each other.
+     */
+    static long hash(UUID id) {
+        long h = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h >>> 32;
+    }
+}
@@ -1,59 +1,66 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.web.FaultInjectionInterceptor;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-@Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FaultInjectionProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final FaultInjectionProperties faults;
+
     @Bean
     public Faker faker() {
-        return new Faker(Locale.getDefault());
+        return MockRoster.faker(faults.getSeed());
     }
 
     /*
      * This list is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<MockEmployee> mockEmployees(
+            Faker faker, MockShard shard, @Value("${mock.employees.max:20}") int maxEmployees) {
+        return MockRoster.generate(faker, shard, maxEmployees);
+    }
+
+    /*
+     * Serves application/x-jackson-smile to clients that ask for it; JSON remains the default representation.
+     * Built from Boot's builder so the binary encoding honours the same Jackson customizations as JSON.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.factory(new SmileFactory()).build());
     }
 
+    /*
+     * Rate limiting runs first, so requests it rejects are neither delayed nor counted towards injected faults.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        final var rateLimit = faults.getRateLimit();
+        if (rateLimit.isEnabled()) {
+            registry.addInterceptor(new RandomRequestLimitInterceptor(
+                    faults.random(), rateLimit.getLimit(), rateLimit.getBackoff(), rateLimit.isRetryAfter()));
+        }
+        if (faults.isEnabled()) {
+            registry.addInterceptor(new FaultInjectionInterceptor(faults)).addPathPatterns("/api/v1/employee/**");
+        }
     }
 }
@@ -1,23 +1,32 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.model.BatchMockEmployeeInput;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.EncodedResponseCache;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -25,12 +34,48 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+    private final EncodedResponseCache encodedResponses;
 
     @GetMapping()
     public Response<List<MockEmployee>> getEmployees() {
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
+    /*
+     * JSON clients get bytes encoded once per roster version; other representations (Smile) fall through to the
+     * mapping above.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getEncodedEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return encodedResponses.respond(
+                "employees",
+                mockEmployeeService.getVersion(),
+                () -> Response.handledWith(List.copyOf(mockEmployeeService.getMockEmployees())),
+                acceptEncoding);
+    }
+
+    /*
+     * Opt-in via Accept: application/x-ndjson. Writes one employee per line as the roster is iterated instead of
+     * buffering a single Response envelope, so the first bytes leave before the last row is serialized.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        final var employees = List.copyOf(mockEmployeeService.getMockEmployees());
+        final var writer = objectMapper
+                .writerFor(MockEmployee.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(outputStream -> {
+            try (SequenceWriter sequenceWriter = writer.writeValues(outputStream)) {
+                for (MockEmployee employee : employees) {
+                    sequenceWriter.write(employee);
+                }
+            }
+        });
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
@@ -39,6 +84,14 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * Resolves many ids in one request (and one rate-limit slot). Unknown ids are simply absent from the result.
+     */
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> getEmployeesByIds(@Valid @RequestBody BatchMockEmployeeInput input) {
+        return Response.handledWith(mockEmployeeService.findByIds(input.getIds()));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
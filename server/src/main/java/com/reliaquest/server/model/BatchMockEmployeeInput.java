@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+@Data
+public class BatchMockEmployeeInput {
+
+    @NotEmpty
+    private List<UUID> ids;
+}
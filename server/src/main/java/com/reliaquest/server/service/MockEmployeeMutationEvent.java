@@ -0,0 +1,30 @@
+package com.reliaquest.server.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A create or delete against the in-memory roster, including the linear scan a delete by name performs.
+ */
+@Name("com.reliaquest.server.MockEmployeeMutation")
+@Label("Mock Employee Mutation")
+@Category({"Mock Employee API", "Service"})
+class MockEmployeeMutationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Employee Name")
+    String employeeName;
+
+    @Label("Applied")
+    boolean applied;
+
+    @Label("Roster Size")
+    int rosterSize;
+
+    @Label("Version")
+    long version;
+}
@@ -1,13 +1,17 @@
 package com.reliaquest.server.service;
 
+import com.reliaquest.server.config.MockShard;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -21,10 +25,20 @@ import org.springframework.stereotype.Service;
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final MockShard shard;
 
     @Getter
     private final List<MockEmployee> mockEmployees;
 
+    /*
+     * Bumped after every mutation, so a reader that sees a new version also sees the change behind it.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    public long getVersion() {
+        return version.get();
+    }
+
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
         return mockEmployees.stream()
                 .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
@@ -32,27 +46,61 @@ public class MockEmployeeService {
                 .findFirst();
     }
 
+    public List<MockEmployee> findByIds(@NonNull Collection<UUID> uuids) {
+        final var wanted = new HashSet<>(uuids);
+        return mockEmployees.stream()
+                .filter(mockEmployee -> wanted.contains(mockEmployee.getId()))
+                .toList();
+    }
+
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+        final var event = begin("create", input.getName());
         final var mockEmployee = MockEmployee.from(
+                shard.randomOwnedId(),
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
         mockEmployees.add(mockEmployee);
+        version.incrementAndGet();
         log.debug("Added employee: {}", mockEmployee);
+        end(event, true);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var event = begin("delete", input.getName());
         final var mockEmployee = mockEmployees.stream()
                 .filter(employee -> Objects.nonNull(employee.getName())
                         && employee.getName().equalsIgnoreCase(input.getName()))
                 .findFirst();
         if (mockEmployee.isPresent()) {
             mockEmployees.remove(mockEmployee.get());
+            version.incrementAndGet();
             log.debug("Removed employee: {}", mockEmployee.get());
+            end(event, true);
             return true;
         }
 
+        end(event, false);
         return false;
     }
+
+    private static MockEmployeeMutationEvent begin(String operation, String employeeName) {
+        final var event = new MockEmployeeMutationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.employeeName = employeeName;
+            event.begin();
+        }
+        return event;
+    }
+
+    private void end(MockEmployeeMutationEvent event, boolean applied) {
+        if (event.shouldCommit()) {
+            event.applied = applied;
+            event.rosterSize = mockEmployees.size();
+            event.version = version.get();
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.common.GzipBodies;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON response bodies encoded once per data version, plus a gzipped copy when large enough to be worth it.
+ * Setting Content-Encoding ourselves makes Tomcat skip its own on-the-fly compression for these responses.
+ */
+@Component
+@RequiredArgsConstructor
+public class EncodedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Encoded> entries = new ConcurrentHashMap<>();
+
+    public ResponseEntity<byte[]> respond(String key, long version, Supplier<?> body, String acceptEncoding) {
+        final var encoded = entries.compute(
+                key,
+                (ignored, cached) -> cached != null && cached.version() == version ? cached : encode(version, body));
+        final var response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (encoded.gzip() == null) {
+            return response.body(encoded.identity());
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (GzipBodies.accepted(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.identity());
+    }
+
+    private Encoded encode(long version, Supplier<?> body) {
+        try {
+            final var identity = objectMapper.writeValueAsBytes(body.get());
+            return new Encoded(version, identity, GzipBodies.compressIfWorthIt(identity));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Encoded(long version, byte[] identity, byte[] gzip) {}
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Delays, fails or drops requests to the mock employee endpoints as configured under {@code mock.faults}.
+ */
+@Slf4j
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final FaultInjectionProperties.Endpoint NO_FAULTS = new FaultInjectionProperties.Endpoint();
+
+    private final FaultInjectionProperties properties;
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public FaultInjectionInterceptor(FaultInjectionProperties properties) {
+        this.properties = properties;
+        this.seed = properties.getSeed() != null
+                ? properties.getSeed()
+                : RandomGenerator.getDefault().nextLong();
+        log.info("Injecting faults with seed {}", seed);
+    }
+
+    /*
+     * Each request draws from its own generator, derived from the seed and the request's arrival index, so the
+     * n-th request to arrive gets the same faults in every run. Which request arrives n-th is up to the clients:
+     * concurrent callers can see the same faults land on different requests from one run to the next.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException, InterruptedException {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        final var random = new SplittableRandom(seed + sequence.getAndIncrement() * GOLDEN_GAMMA);
+        final var endpoint = properties.getEndpoints().getOrDefault(route(request), NO_FAULTS);
+        final var latency = endpoint.getLatency() != null ? endpoint.getLatency() : properties.getLatency();
+
+        final var delay = latency.sample(random);
+        final var reset = random.nextDouble() < endpoint.getResetRate();
+        final var error = random.nextDouble() < endpoint.getErrorRate();
+        if (!delay.isZero()) {
+            Thread.sleep(delay.toMillis());
+        }
+        if (reset) {
+            truncate(response);
+            return false;
+        }
+        if (error) {
+            response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Injected fault");
+            return false;
+        }
+        return true;
+    }
+
+    /*
+     * The route rather than the handler, so every representation of one resource (JSON, NDJSON, Smile) shares
+     * its faults, e.g. "GET /api/v1/employee" or "DELETE /api/v1/employee".
+     */
+    static String route(HttpServletRequest request) {
+        final var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    /*
+     * A servlet cannot reset its socket, so promise a body, send a fragment of it and close the connection.
+     * Clients see a premature end of stream, as they would after a reset.
+     */
+    private static void truncate(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(1024);
+        response.getOutputStream().write('{');
+        response.flushBuffer();
+    }
+}
@@ -7,29 +7,65 @@ import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+@Slf4j
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int limit;
+    private final Duration backoff;
+    private final boolean sendRetryAfter;
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    public RandomRequestLimitInterceptor() {
+        this(RandomGenerator.getDefault(), null, null, false);
+    }
+
+    /*
+     * A null limit or backoff is drawn from the given generator, so a seeded generator gives a repeatable schedule.
+     */
+    public RandomRequestLimitInterceptor(
+            RandomGenerator random, Integer limit, Duration backoff, boolean sendRetryAfter) {
+        this.limit = limit != null ? limit : random.nextInt(5, 10);
+        this.backoff = backoff != null ? backoff : Duration.ofSeconds(random.nextInt(30, 90));
+        this.sendRetryAfter = sendRetryAfter;
+        log.info("Rate limiting after {} requests for {}", this.limit, this.backoff);
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        if (!tryAcquire()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            if (sendRetryAfter) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds()));
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whole seconds until the current backoff ends, rounded up and at least one.
+     */
+    public long retryAfterSeconds() {
+        final var remaining = Duration.between(
+                Instant.now(), requestLimit.get().getLastRequested().plus(backoff));
+        return Math.max(1, remaining.plusMillis(999).toSeconds());
+    }
+
+    /*
+     * The limiting decision on its own, for callers that reach the mock service without going through Spring MVC.
+     */
+    public boolean tryAcquire() {
+        if (requestLimit.get().getCount() >= limit) {
+            if (Instant.now().minus(backoff).isBefore(requestLimit.get().getLastRequested())) {
                 return false;
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
+            if (Instant.now().minus(backoff).isAfter(requestLimit.get().getLastRequested())) {
                 requestLimit.set(RequestLimit.init());
             }
         } else {
@@ -0,0 +1,35 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MockRosterTest {
+
+    @Test
+    void generate_ShouldRepeatRoster_WhenSeedIsSame() {
+        MockShard shard = new MockShard(1, 3);
+
+        List<MockEmployee> first = MockRoster.generate(MockRoster.faker(42L), shard, 20);
+        List<MockEmployee> second = MockRoster.generate(MockRoster.faker(42L), shard, 20);
+
+        assertEquals(20, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first, MockRoster.generate(MockRoster.faker(43L), shard, 20));
+    }
+
+    @Test
+    void generate_ShouldOnlyUseOwnedVersion4Ids_WhenSeeded() {
+        MockShard shard = new MockShard(2, 3);
+
+        List<MockEmployee> roster = MockRoster.generate(MockRoster.faker(7L), shard, 50);
+
+        assertTrue(roster.stream().allMatch(employee -> shard.owns(employee.getId())));
+        assertTrue(roster.stream()
+                .allMatch(employee ->
+                        employee.getId().version() == 4 && employee.getId().variant() == 2));
+        assertEquals(50, roster.stream().map(MockEmployee::getId).distinct().count());
+    }
+}
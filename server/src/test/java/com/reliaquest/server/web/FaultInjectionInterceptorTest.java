@@ -0,0 +1,114 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class FaultInjectionInterceptorTest {
+
+    @Test
+    void preHandle_ShouldDrawSameFaults_WhenSeedIsSame() throws Exception {
+        List<String> first = outcomes(new FaultInjectionInterceptor(properties(42L, 0.3, 0.1)), 200);
+        List<String> second = outcomes(new FaultInjectionInterceptor(properties(42L, 0.3, 0.1)), 200);
+        List<String> otherSeed = outcomes(new FaultInjectionInterceptor(properties(43L, 0.3, 0.1)), 200);
+
+        assertEquals(first, second);
+        assertNotEquals(first, otherSeed);
+        assertTrue(first.containsAll(List.of("pass", "error", "reset")));
+    }
+
+    @Test
+    void preHandle_ShouldTruncateResponse_WhenConnectionIsReset() throws Exception {
+        FaultInjectionInterceptor interceptor = new FaultInjectionInterceptor(properties(1L, 0.0, 1.0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request(), response, handler());
+
+        assertFalse(proceed);
+        assertEquals(200, response.getStatus());
+        assertEquals("close", response.getHeader("Connection"));
+        assertEquals(1024, response.getContentLength());
+        assertEquals("{", response.getContentAsString());
+        assertTrue(response.isCommitted());
+    }
+
+    @Test
+    void preHandle_ShouldSendError_WhenRequestFails() throws Exception {
+        FaultInjectionInterceptor interceptor = new FaultInjectionInterceptor(properties(1L, 1.0, 0.0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request(), response, handler()));
+        assertEquals(500, response.getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldPassThrough_WhenEndpointHasNoFaults() throws Exception {
+        FaultInjectionProperties properties = new FaultInjectionProperties();
+        properties.setSeed(1L);
+        FaultInjectionInterceptor interceptor = new FaultInjectionInterceptor(properties);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request(), response, handler()));
+        assertFalse(response.isCommitted());
+    }
+
+    @Test
+    void preHandle_ShouldKeyFaultsByMethodAndRoute() throws Exception {
+        FaultInjectionInterceptor interceptor = new FaultInjectionInterceptor(properties(1L, 1.0, 0.0));
+
+        assertFalse(interceptor.preHandle(request(), new MockHttpServletResponse(), handler()));
+        assertTrue(
+                interceptor.preHandle(request("DELETE", "/api/v1/employee"), new MockHttpServletResponse(), handler()));
+        assertTrue(interceptor.preHandle(
+                request("GET", "/api/v1/employee/{id}"), new MockHttpServletResponse(), handler()));
+    }
+
+    private static List<String> outcomes(FaultInjectionInterceptor interceptor, int requests) throws Exception {
+        List<String> outcomes = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            if (interceptor.preHandle(request(), response, handler())) {
+                outcomes.add("pass");
+            } else {
+                outcomes.add(response.getStatus() == 500 ? "error" : "reset");
+            }
+        }
+        return outcomes;
+    }
+
+    private static FaultInjectionProperties properties(long seed, double errorRate, double resetRate) {
+        FaultInjectionProperties.Endpoint endpoint = new FaultInjectionProperties.Endpoint();
+        endpoint.setErrorRate(errorRate);
+        endpoint.setResetRate(resetRate);
+        FaultInjectionProperties properties = new FaultInjectionProperties();
+        properties.setSeed(seed);
+        properties.getEndpoints().put("GET /api/v1/employee", endpoint);
+        return properties;
+    }
+
+    private static MockHttpServletRequest request() {
+        return request("GET", "/api/v1/employee");
+    }
+
+    private static MockHttpServletRequest request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private static HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), "getEmployees");
+    }
+
+    static class Endpoints {
+
+        public void getEmployees() {}
+    }
+}
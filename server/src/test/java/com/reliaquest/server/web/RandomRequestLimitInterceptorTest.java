@@ -0,0 +1,39 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    @Test
+    void preHandle_ShouldSendRetryAfter_WhenRateLimited() {
+        RandomRequestLimitInterceptor interceptor =
+                new RandomRequestLimitInterceptor(new SplittableRandom(1), 2, Duration.ofSeconds(30), true);
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), limited, null));
+        assertEquals(429, limited.getStatus());
+        long retryAfter = Long.parseLong(limited.getHeader("Retry-After"));
+        assertTrue(retryAfter > 0 && retryAfter <= 30);
+    }
+
+    @Test
+    void preHandle_ShouldOmitRetryAfter_WhenDisabled() {
+        RandomRequestLimitInterceptor interceptor =
+                new RandomRequestLimitInterceptor(new SplittableRandom(1), 1, Duration.ofSeconds(30), false);
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+        MockHttpServletResponse limited = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), limited, null));
+        assertEquals(429, limited.getStatus());
+        assertNull(limited.getHeader("Retry-After"));
+    }
+}
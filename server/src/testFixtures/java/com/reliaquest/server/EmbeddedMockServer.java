@@ -0,0 +1,50 @@
+package com.reliaquest.server;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.config.MockRoster;
+import com.reliaquest.server.config.MockShard;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * The mock employee service assembled without a web server, for tests that run a client in the same JVM. The
+ * roster is generated by the same {@link MockRoster} as {@link ServerApplication} uses. The random rate limit is
+ * only applied if it is enabled in the given properties; latency and error injection are HTTP-level and do not
+ * apply.
+ */
+public class EmbeddedMockServer {
+
+    @Getter
+    private final MockEmployeeService service;
+
+    private final RandomRequestLimitInterceptor rateLimit;
+    private final boolean retryAfter;
+
+    public EmbeddedMockServer(int maxEmployees, FaultInjectionProperties faults) {
+        final var faker = MockRoster.faker(faults.getSeed());
+        final var shard = new MockShard(0, 1);
+        this.service = new MockEmployeeService(faker, shard, MockRoster.generate(faker, shard, maxEmployees));
+        final var limits = faults.getRateLimit();
+        this.retryAfter = limits.isRetryAfter();
+        this.rateLimit = limits.isEnabled()
+                ? new RandomRequestLimitInterceptor(
+                        faults.random(), limits.getLimit(), limits.getBackoff(), limits.isRetryAfter())
+                : null;
+    }
+
+    /**
+     * Whether a request arriving now would be admitted, counting it if so. Always true without a rate limit.
+     */
+    public boolean tryAcquire() {
+        return rateLimit == null || rateLimit.tryAcquire();
+    }
+
+    /**
+     * The Retry-After value, in seconds, that the HTTP server would send with a 429 right now, if it sends one.
+     */
+    public Optional<Long> retryAfterSeconds() {
+        return rateLimit != null && retryAfter ? Optional.of(rateLimit.retryAfterSeconds()) : Optional.empty();
+    }
+}